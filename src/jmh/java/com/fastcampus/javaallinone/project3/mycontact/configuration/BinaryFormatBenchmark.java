@@ -0,0 +1,97 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {     // 1,000명 목록 응답을 Accept 형식별로 쓰고 읽는 시간 (전송 byte 수는 trial 종료 시 출력)
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final String[] HOBBIES = {"programming", "reading", "movie", "climbing"};
+
+    private static final String[] ADDRESSES = {"판교", "서울시 강남구", "부산", "Seoul"};
+
+    private static final String[] JOBS = {"programmer", "officer", "designer", "student"};
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private Page<PersonSummary> summaries;
+
+    private List<Person> people;
+
+    private byte[] encodedPage;
+
+    private byte[] encodedPeople;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonConfig jsonConfig = new JsonConfig();
+        objectMapper = format.equals("smile") ? jsonConfig.smileMapper() : format.equals("cbor") ? jsonConfig.cborMapper() : jsonConfig.objectMapper();
+
+        List<PersonSummary> summaryContent = new ArrayList<>(PAGE_SIZE);
+        people = new ArrayList<>(PAGE_SIZE);
+        LocalDate today = LocalDate.now();
+
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Person person = person(id);
+            people.add(person);
+            summaryContent.add(new PersonSummary(person.getId(), person.getName(), person.getHobby(), person.getAddress(), person.getBirthday(), person.getJob(), person.getPhoneNumber(), false).calculate(today));
+        }
+
+        summaries = new PageImpl<>(summaryContent, PageRequest.of(0, PAGE_SIZE), 100_000);
+        encodedPage = objectMapper.writeValueAsBytes(summaries);
+        encodedPeople = objectMapper.writeValueAsBytes(people);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {      // 목록 API 응답 (server)
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+
+    @Benchmark
+    public JsonNode decodePage() throws IOException {     // 목록 API 응답 (client, type 정보 없이 tree로 읽음)
+        return objectMapper.readTree(encodedPage);
+    }
+
+    @Benchmark
+    public Person[] decodePeople() throws IOException {       // PersonDeserializer로 읽음
+        return objectMapper.readValue(encodedPeople, Person[].class);
+    }
+
+    @TearDown
+    public void printWireSize() {       // 응답 크기는 매번 같으므로 측정하지 않고 한 번 출력
+        System.out.printf("%n%s : page of %d = %d bytes%n", format, PAGE_SIZE, encodedPage.length);
+    }
+
+    private static Person person(long id) {
+        Person person = new Person("martin" + id);
+        person.setId(id);
+        person.setHobby(HOBBIES[(int) (id % HOBBIES.length)]);
+        person.setAddress(ADDRESSES[(int) (id % ADDRESSES.length)]);
+        person.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15).plusDays(id)));
+        person.setJob(JOBS[(int) (id % JOBS.length)]);
+        person.setPhoneNumber(String.format("010-%04d-%04d", id / 10000, id % 10000));
+
+        return person;
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonConfigBenchmark {     // JsonConfig의 ObjectMapper로 API 응답과 같은 형태를 직렬화
+
+    @Param({"10", "1000"})
+    private int pageSize;
+
+    @Param({"handWritten", "bean"})     // bean : 직접 작성한 serializer를 등록하기 전의 reflection 기반 직렬화 (비교용)
+    private String codec;
+
+    private ObjectMapper objectMapper;
+
+    private Person person;
+
+    private Page<Person> people;
+
+    private Page<PersonSummary> summaries;
+
+    @Setup
+    public void setup() {
+        objectMapper = codec.equals("bean") ? beanObjectMapper() : new JsonConfig().objectMapper();
+        person = person(1L);
+
+        List<Person> content = new ArrayList<>(pageSize);
+        List<PersonSummary> summaryContent = new ArrayList<>(pageSize);
+        LocalDate today = LocalDate.now();
+
+        for (long id = 1; id <= pageSize; id++) {
+            Person person = person(id);
+            content.add(person);
+            summaryContent.add(new PersonSummary(person.getId(), person.getName(), person.getHobby(), person.getAddress(), person.getBirthday(), person.getJob(), person.getPhoneNumber(), false).calculate(today));
+        }
+
+        people = new PageImpl<>(content, PageRequest.of(0, pageSize), 100_000);
+        summaries = new PageImpl<>(summaryContent, PageRequest.of(0, pageSize), 100_000);
+    }
+
+    @Benchmark
+    public byte[] person() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(person);
+    }
+
+    @Benchmark
+    public byte[] pageOfPerson() throws JsonProcessingException {     // Person은 row마다 getAge/isBirthdayToday에서 LocalDate.now() 호출
+        return objectMapper.writeValueAsBytes(people);
+    }
+
+    @Benchmark
+    public byte[] pageOfPersonSummary() throws JsonProcessingException {      // 목록 API가 실제로 반환하는 projection (age, birthdayToday 미리 계산)
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+
+    private static ObjectMapper beanObjectMapper() {
+        SimpleModule birthdayModule = new SimpleModule();
+        birthdayModule.addSerializer(Birthday.class, new StdDelegatingSerializer(new StdConverter<Birthday, LocalDate>() {
+            @Override
+            public LocalDate convert(Birthday value) {
+                return LocalDate.of(value.getYearOfBirthday(), value.getMonthOfBirthday(), value.getDayOfBirthday());
+            }
+        }));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(birthdayModule);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        return objectMapper;
+    }
+
+    private static Person person(long id) {
+        Person person = new Person("martin" + id);
+        person.setId(id);
+        person.setHobby("programming");
+        person.setAddress("판교");
+        person.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15).plusDays(id)));
+        person.setJob("programmer");
+        person.setPhoneNumber("010-1111-2222");
+
+        return person;
+    }
+
+}
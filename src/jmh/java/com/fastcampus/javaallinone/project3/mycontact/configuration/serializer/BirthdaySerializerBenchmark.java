@@ -0,0 +1,46 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.JsonConfig;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BirthdaySerializerBenchmark {     // Birthday 하나를 "yyyy-MM-dd" 문자열로 쓰는 비용 (LocalDate 생성 + JavaTimeModule serializer 조회 포함)
+
+    private final BirthdaySerializer serializer = new BirthdaySerializer();
+
+    private final Birthday birthday = Birthday.of(LocalDate.of(1991, 8, 15));
+
+    private JsonGenerator generator;
+
+    private SerializerProvider serializerProvider;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new JsonConfig().objectMapper();
+
+        generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream());
+        serializerProvider = objectMapper.getSerializerProviderInstance();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        generator.close();
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        serializer.serialize(birthday, generator, serializerProvider);
+    }
+
+}
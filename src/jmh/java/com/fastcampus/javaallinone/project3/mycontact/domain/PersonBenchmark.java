@@ -0,0 +1,42 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonBenchmark {
+
+    private final PersonDto personDto = PersonDto.of("martin", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222");
+
+    private Person person;
+
+    @Setup
+    public void setup() {
+        person = new Person("martin");
+        person.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15)));
+    }
+
+    @Benchmark
+    public Person set() {      // 수정 요청마다 호출 (Birthday.of 포함)
+        person.set(personDto);
+
+        return person;
+    }
+
+    @Benchmark
+    public Integer getAge() {
+        return person.getAge();
+    }
+
+    @Benchmark
+    public boolean isBirthdayToday() {
+        return person.isBirthdayToday();
+    }
+
+}
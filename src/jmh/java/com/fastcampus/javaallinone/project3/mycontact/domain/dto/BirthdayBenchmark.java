@@ -0,0 +1,34 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BirthdayBenchmark {
+
+    private final LocalDate date = LocalDate.of(1991, 8, 15);
+
+    private final LocalDate today = LocalDate.of(2021, 8, 15);
+
+    private final Birthday birthday = Birthday.of(date);
+
+    @Benchmark
+    public Birthday of() {
+        return Birthday.of(date);
+    }
+
+    @Benchmark
+    public int getAge() {      // today를 전달받는 경우 (PersonSummary)
+        return birthday.getAge(today);
+    }
+
+    @Benchmark
+    public boolean isBirthday() {
+        return birthday.isBirthday(today);
+    }
+
+}
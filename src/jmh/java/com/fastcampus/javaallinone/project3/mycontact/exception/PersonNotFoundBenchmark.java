@@ -0,0 +1,54 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.dto.ErrorResponse;
+import com.fastcampus.javaallinone.project3.mycontact.exception.handler.RateLimitedErrorLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PersonNotFoundBenchmark {     // 404 요청 1건의 오류 처리 비용 : 요청 처리 stack 깊이(depth)에서 던지고 handler에서 응답을 만들기까지
+
+    @Param({"20", "150"})      // 150 : controller -> service(AOP, transaction proxy) -> repository까지의 대략적인 stack 깊이
+    private int depth;
+
+    private RateLimitedErrorLogger errorLogger;
+
+    @Setup
+    public void setup() {
+        errorLogger = new RateLimitedErrorLogger(new SimpleMeterRegistry(), 1000);
+    }
+
+    @Benchmark
+    public Object stackless() {     // 현재 : INSTANCE 재사용, counter + 간격 제한 log
+        try {
+            return throwAt(depth, true);
+        } catch (PersonNotFoundException exception) {
+            errorLogger.log(exception, HttpStatus.NOT_FOUND);
+
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Object stackTrace() {    // 이전 : 매번 stack trace를 채운 exception 생성, 응답 객체 생성 (생성자의 log.error는 제외)
+        try {
+            return throwAt(depth, false);
+        } catch (RuntimeException exception) {
+            return ErrorResponse.of(HttpStatus.BAD_REQUEST, exception.getMessage());
+        }
+    }
+
+    private static Object throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            return throwAt(depth - 1, stackless);
+        }
+
+        throw stackless ? PersonNotFoundException.INSTANCE : new RuntimeException("Person Entity가 존재하지 않습니다.");
+    }
+
+}
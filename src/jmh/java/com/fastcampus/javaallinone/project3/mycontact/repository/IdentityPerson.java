@@ -0,0 +1,40 @@
+package com.fastcampus.javaallinone.project3.mycontact.repository;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+@Entity
+public class IdentityPerson {       // PersonRepositoryBenchmark 비교용 : SequencePerson과 같은 column, id는 sequence 이전 방식(IDENTITY) (JMH source set에만 있으므로 application schema에는 없음)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)     // insert마다 생성된 id를 바로 읽어야 하므로 hibernate.jdbc.batch_size가 적용되지 않음
+    private Long id;
+
+    private String name;
+
+    private String hobby;
+
+    private String address;
+
+    @Embedded
+    private Birthday birthday;
+
+    private String job;
+
+    protected IdentityPerson() {
+    }
+
+    IdentityPerson(String name, String hobby, String address, Birthday birthday, String job) {
+        this.name = name;
+        this.hobby = hobby;
+        this.address = address;
+        this.birthday = birthday;
+        this.job = job;
+    }
+
+}
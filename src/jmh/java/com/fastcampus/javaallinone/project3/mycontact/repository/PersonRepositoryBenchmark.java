@@ -0,0 +1,141 @@
+package com.fastcampus.javaallinone.project3.mycontact.repository;
+
+import com.fastcampus.javaallinone.project3.mycontact.MycontactApplication;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonRepositoryBenchmark {   // H2(in-memory)에 people건을 저장한 상태에서 목록 조회(entity vs projection)와 insert 비용(sequence batch vs IDENTITY)
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int INSERT_SIZE = 500;
+
+    @Param({"100000"})
+    private int people;
+
+    private ConfigurableApplicationContext context;
+
+    private PersonRepository personRepository;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private TransactionTemplate transaction;
+
+    private int page;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(MycontactApplication.class).web(WebApplicationType.NONE)
+                                                                          .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                                                                          .run();
+
+        personRepository = context.getBean(PersonRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        for (int from = 0; from < people; from += INSERT_SIZE) {
+            insert(INSERT_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Person> findAllAsEntity() {        // 영속성 context에 entity와 snapshot 생성 (projection 도입 이전의 목록 조회)
+        return readOnlyTransaction.execute(status -> personRepository.findAll(nextPage()).getContent());
+    }
+
+    @Benchmark
+    public List<PersonSummary> findAllAsSummary() {
+        return readOnlyTransaction.execute(status -> {
+            List<PersonSummary> summaries = personRepository.findSummaries(nextPage());      // 전체 수는 PersonCountService의 counter를 사용하므로 count(*) 없음
+            LocalDate today = LocalDate.now();
+            summaries.forEach(summary -> summary.calculate(today));
+
+            return summaries;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_SIZE)
+    public void saveAll() {        // sequence(pooled-lo) id + hibernate.jdbc.batch_size로 batch insert, 결과는 1건당 시간
+        insert(INSERT_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_SIZE)
+    public void persistWithSequence() {        // id 생성 방식만 비교 : Person의 event, index, counter 처리 없이 같은 column을 persist
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < INSERT_SIZE; i++) {
+                entityManager.persist(new SequencePerson("benchmark" + i, "programming", "판교", Birthday.of(LocalDate.of(1991, 8, 15).plusDays(i)), "programmer"));
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_SIZE)
+    public void persistWithIdentity() {        // sequence 도입 이전 방식 : insert마다 생성된 id를 읽어야 하므로 batch로 묶이지 않고 1건씩 실행됨
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < INSERT_SIZE; i++) {
+                entityManager.persist(new IdentityPerson("benchmark" + i, "programming", "판교", Birthday.of(LocalDate.of(1991, 8, 15).plusDays(i)), "programmer"));
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private PageRequest nextPage() {   // 같은 page만 반복 조회하지 않도록 앞쪽 100 page를 돌아가며 조회
+        page = (page + 1) % 100;
+
+        return PageRequest.of(page, PAGE_SIZE, Sort.by("id"));     // API 기본 정렬 (@PageableDefault(sort = "id"))
+    }
+
+    private void insert(int size) {
+        transaction.executeWithoutResult(status -> {
+            List<Person> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Person person = new Person("benchmark" + i);
+                person.setHobby("programming");
+                person.setAddress("판교");
+                person.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15).plusDays(i)));
+                person.setJob("programmer");
+                batch.add(person);
+            }
+
+            personRepository.saveAll(batch);
+            personRepository.flush();
+            entityManager.clear();
+        });
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.javaallinone.project3.mycontact.repository;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+@Entity
+public class SequencePerson {       // PersonRepositoryBenchmark 비교용 : IdentityPerson과 같은 column, id만 Person과 같은 pooled-lo sequence
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_person_id_generator")
+    @GenericGenerator(name = "sequence_person_id_generator", strategy = "enhanced-sequence", parameters = {
+            @Parameter(name = "sequence_name", value = "sequence_person_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    private Long id;
+
+    private String name;
+
+    private String hobby;
+
+    private String address;
+
+    @Embedded
+    private Birthday birthday;
+
+    private String job;
+
+    protected SequencePerson() {
+    }
+
+    SequencePerson(String name, String hobby, String address, Birthday birthday, String job) {
+        this.name = name;
+        this.hobby = hobby;
+        this.address = address;
+        this.birthday = birthday;
+        this.job = job;
+    }
+
+}
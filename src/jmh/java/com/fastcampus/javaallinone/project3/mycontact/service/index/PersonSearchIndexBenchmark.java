@@ -0,0 +1,65 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonSearchIndexBenchmark {      // 기동 시 전체 색인 비용과 검색 비용 (연락처 수별)
+
+    private static final String[] HOBBIES = {"programming", "reading", "독서", "등산", "영화 감상", "축구", "요리"};
+
+    private static final String[] ADDRESSES = {"판교", "서울시 강남구", "서울시 마포구", "부산시 해운대구", "대구", "인천시 연수구", "Seoul"};
+
+    private static final String[] JOBS = {"programmer", "officer", "디자이너", "회사원", "교사", "의사", "student"};
+
+    @Param({"100000", "1000000"})
+    private int people;
+
+    private PersonSearchIndex personSearchIndex;
+
+    @Setup
+    public void setup() {
+        personSearchIndex = build(people);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public PersonSearchIndex index() {
+        return build(people);
+    }
+
+    @Benchmark
+    public List<Long> searchRareTerm() {       // posting list가 짧은 term
+        return personSearchIndex.search("애월", 20);
+    }
+
+    @Benchmark
+    public List<Long> searchCommonTerms() {    // posting list가 긴 term 여러 개 (score 계산 + top-K)
+        return personSearchIndex.search("서울 programmer 독서", 20);
+    }
+
+    private static PersonSearchIndex build(int people) {
+        PersonSearchIndex index = new PersonSearchIndex();
+
+        for (long id = 1; id <= people; id++) {
+            Person person = new Person("person" + id);
+            person.setId(id);
+            person.setHobby(HOBBIES[(int) (id % HOBBIES.length)]);
+            person.setAddress(id % 1000 == 0 ? "제주시 애월읍" : ADDRESSES[(int) (id * 31 % ADDRESSES.length)]);     // 1000명 중 1명만 가진 주소
+            person.setJob(JOBS[(int) (id * 17 % JOBS.length)]);
+
+            index.index(person);
+        }
+
+        return index;
+    }
+
+}
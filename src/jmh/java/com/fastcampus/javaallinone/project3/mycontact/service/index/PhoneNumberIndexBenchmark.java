@@ -0,0 +1,57 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PhoneNumberKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PhoneNumberIndexBenchmark {       // 발신자 조회 : 번호 정규화 + index 조회 비용 (연락처 수별)
+
+    @Param({"100000", "1000000"})
+    private int people;
+
+    private PhoneNumberIndex phoneNumberIndex;
+
+    private String[] phoneNumbers;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        phoneNumberIndex = new PhoneNumberIndex();
+        phoneNumbers = new String[1024];
+
+        for (long id = 1; id <= people; id++) {
+            Person person = new Person("person" + id);
+            person.setId(id);
+            person.setPhoneNumber(phoneNumber(id));
+
+            phoneNumberIndex.index(person);
+        }
+
+        for (int i = 0; i < phoneNumbers.length; i++) {
+            phoneNumbers[i] = phoneNumber(1 + (i * 7919L) % people);
+        }
+    }
+
+    @Benchmark
+    public Long findHit() {
+        String phoneNumber = phoneNumbers[next++ & (phoneNumbers.length - 1)];
+
+        return phoneNumberIndex.find(PhoneNumberKey.of(phoneNumber));
+    }
+
+    @Benchmark
+    public Long findMiss() {       // 등록되지 않은 번호 (대부분의 발신)
+        return phoneNumberIndex.find(PhoneNumberKey.of("010-9999-9999"));
+    }
+
+    private static String phoneNumber(long id) {
+        return String.format("010-%04d-%04d", id / 10000, id % 10000);
+    }
+
+}
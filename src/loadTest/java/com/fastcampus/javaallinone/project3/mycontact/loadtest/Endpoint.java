@@ -0,0 +1,88 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Random;
+
+public enum Endpoint {     // PersonController의 endpoint별 요청 생성
+
+    GET_BY_ID("get-by-id") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {
+            return get(context.uri("/api/person/" + context.randomId(random)));
+        }
+    },
+    LIST("list") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {
+            return get(context.uri("/api/person?page=" + random.nextInt(context.pages(20)) + "&size=20"));
+        }
+    },
+    BIRTHDAY_FRIENDS("birthday-friends") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {
+            return get(context.uri("/api/person/birthday-friends?days=" + (1 + random.nextInt(7))));
+        }
+    },
+    POST("post") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {
+            return json(context.uri("/api/person"), "POST", body("post" + random.nextInt(1_000_000), context.nextPostPhoneNumber(), random));
+        }
+    },
+    PUT("put") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {   // 이름은 바꾸지 않음 (RenameNotPermittedException)
+            long id = context.randomId(random);
+
+            return json(context.uri("/api/person/" + id), "PUT", body(LoadTestContext.SEED_NAME, LoadTestContext.putPhoneNumber(id), random));
+        }
+    },
+    PATCH("patch") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {   // 같은 이름으로 변경하여 이후 PUT 요청이 실패하지 않도록 함
+            return HttpRequest.newBuilder(context.uri("/api/person/" + context.randomId(random) + "?name=" + LoadTestContext.SEED_NAME))
+                              .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                              .build();
+        }
+    },
+    DELETE("delete") {
+        @Override
+        HttpRequest request(LoadTestContext context, Random random) {   // 삭제 전용 id 범위에서 한 번씩만 삭제
+            return HttpRequest.newBuilder(context.uri("/api/person/" + context.nextDeletableId()))
+                              .DELETE()
+                              .build();
+        }
+    };
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    abstract HttpRequest request(LoadTestContext context, Random random);
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static HttpRequest json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                          .header("Content-Type", "application/json")
+                          .method(method, HttpRequest.BodyPublishers.ofString(body))
+                          .build();
+    }
+
+    private static String body(String name, String phoneNumber, Random random) {
+        LocalDate birthday = LocalDate.of(1970, 1, 1).plusDays(random.nextInt(365 * 40));
+
+        return "{\"name\":\"" + name + "\",\"hobby\":\"programming\",\"address\":\"판교\",\"birthday\":\"" + birthday + "\",\"job\":\"programmer\",\"phoneNumber\":\"" + phoneNumber + "\"}";
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import com.fastcampus.javaallinone.project3.mycontact.MycontactApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+public class FastStartTraining {       // ./gradlew cdsArchive 의 training run : 기동 후 주요 endpoint를 한 번씩 호출하여 요청 처리에 쓰이는 class까지 목록에 포함
+
+    public static void main(String[] args) throws Exception {
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(MycontactApplication.class)
+                .run("--server.port=0", "--spring.profiles.active=faststart", "--logging.level.root=WARN");
+
+        try {
+            String baseUrl = "http://localhost:" + context.getWebServer().getPort() + "/api/person";
+            HttpClient client = HttpClient.newHttpClient();
+
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl))
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"training\",\"birthday\":\"1991-08-15\"}")));
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl)));
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/birthday-friends")));
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/search?q=training")));
+            send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/0")));     // 404
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void send(HttpClient client, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+
+        System.out.println(response.request().method() + " " + response.request().uri() + " -> " + response.statusCode());
+    }
+
+}
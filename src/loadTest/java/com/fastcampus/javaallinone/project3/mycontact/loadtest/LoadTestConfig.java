@@ -0,0 +1,111 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+public class LoadTestConfig {      // loadtest.properties의 기본값을 system property(-Dloadtest.*)로 덮어씀
+
+    private static final String PREFIX = "loadtest.";
+
+    private static final String APP_PREFIX = PREFIX + "app.";      // ex. -Dloadtest.app.mycontact.virtual-threads.enabled=true 는 application 설정으로 전달
+
+    private final Properties properties = new Properties();
+
+    public static LoadTestConfig load() throws IOException {
+        LoadTestConfig config = new LoadTestConfig();
+
+        try (InputStream inputStream = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            config.properties.load(inputStream);
+        }
+
+        System.getProperties().stringPropertyNames()
+              .stream()
+              .filter(name -> name.startsWith(PREFIX))
+              .forEach(name -> config.properties.setProperty(name, System.getProperty(name)));
+
+        return config;
+    }
+
+    public int getRate() {
+        return Integer.parseInt(get("rate"));
+    }
+
+    public int getWarmupSeconds() {
+        return Integer.parseInt(get("warmup-seconds"));
+    }
+
+    public int getDurationSeconds() {
+        return Integer.parseInt(get("duration-seconds"));
+    }
+
+    public int getSeed() {
+        return Integer.parseInt(get("seed"));
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = Integer.parseInt(get("mix." + endpoint.getKey(), "0"));
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+
+        return mix;
+    }
+
+    public double getMaxErrorRate() {
+        return Double.parseDouble(get("budget.max-error-rate"));
+    }
+
+    public Double getP99BudgetMillis(Endpoint endpoint) {
+        String value = get("budget.p99-ms." + endpoint.getKey(), "");
+
+        return value.isEmpty() ? null : Double.valueOf(value);
+    }
+
+    public String getBaseline() {
+        return get("baseline", "");
+    }
+
+    public double getMaxRegression() {
+        return Double.parseDouble(get("budget.max-regression"));
+    }
+
+    public String getReport() {
+        return get("report");
+    }
+
+    public String[] getApplicationProperties() {
+        return properties.stringPropertyNames()
+                         .stream()
+                         .filter(name -> name.startsWith(APP_PREFIX))
+                         .map(name -> name.substring(APP_PREFIX.length()) + "=" + properties.getProperty(name))
+                         .toArray(String[]::new);
+    }
+
+    public Map<String, String> toMap() {
+        Map<String, String> map = new TreeMap<>();
+        properties.stringPropertyNames().forEach(name -> map.put(name, properties.getProperty(name)));
+
+        return map;
+    }
+
+    private String get(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null) {
+            throw new IllegalArgumentException(PREFIX + key + " 설정이 없습니다.");
+        }
+
+        return value.trim();
+    }
+
+    private String get(String key, String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue).trim();
+    }
+
+}
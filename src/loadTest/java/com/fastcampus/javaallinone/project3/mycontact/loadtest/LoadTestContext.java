@@ -0,0 +1,69 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import java.net.URI;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTestContext {     // 요청 대상 id 범위 : 앞쪽 80%는 조회/수정, 뒤쪽 20%는 삭제 전용
+
+    public static final String SEED_NAME = "load";     // 저장한 Person은 모두 같은 이름을 사용하여 PUT/PATCH가 이름 변경 오류 없이 성공하도록 함
+
+    private static final String SEED_PHONE_PREFIX = "010";     // 전화번호는 한 명만 가질 수 있으므로 용도별 국번을 나누고 뒤 8자리를 순번으로 채움
+
+    private static final String POST_PHONE_PREFIX = "011";
+
+    private static final String PUT_PHONE_PREFIX = "012";
+
+    private final String baseUrl;
+
+    private final long minId;
+
+    private final long deletableMinId;
+
+    private final long count;
+
+    private final AtomicLong nextDeletableId;
+
+    private final AtomicLong nextPostSequence = new AtomicLong();
+
+    public LoadTestContext(String baseUrl, long minId, long maxId) {
+        this.baseUrl = baseUrl;
+        this.minId = minId;
+        this.count = maxId - minId + 1;
+        this.deletableMinId = minId + this.count * 8 / 10;
+        this.nextDeletableId = new AtomicLong(maxId);
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    long randomId(Random random) {
+        return minId + (long) (random.nextDouble() * (deletableMinId - minId));
+    }
+
+    long nextDeletableId() {      // 삭제할 id가 모두 소진되면 마지막 id를 반복 (이미 삭제된 id는 오류 응답)
+        return Math.max(nextDeletableId.getAndDecrement(), deletableMinId);
+    }
+
+    String nextPostPhoneNumber() {
+        return phoneNumber(POST_PHONE_PREFIX, nextPostSequence.getAndIncrement());
+    }
+
+    static String seedPhoneNumber(long sequence) {
+        return phoneNumber(SEED_PHONE_PREFIX, sequence);
+    }
+
+    static String putPhoneNumber(long id) {     // 같은 id는 항상 같은 번호 (자기 자신의 번호는 중복이 아님)
+        return phoneNumber(PUT_PHONE_PREFIX, id);
+    }
+
+    private static String phoneNumber(String prefix, long sequence) {
+        return String.format("%s-%04d-%04d", prefix, sequence / 10000 % 10000, sequence % 10000);
+    }
+
+    int pages(int size) {
+        return (int) Math.max(1, count / size);
+    }
+
+}
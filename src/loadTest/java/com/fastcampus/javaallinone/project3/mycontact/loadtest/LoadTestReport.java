@@ -0,0 +1,148 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LoadTestReport {      // build/reports/loadtest/report.json 으로 저장되는 결과 (다음 실행의 loadtest.baseline으로 사용 가능)
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Map<String, String> config;
+
+    private double measuredSeconds;
+
+    private Map<String, Result> endpoints = new LinkedHashMap<>();
+
+    private List<String> violations = new ArrayList<>();
+
+    public static LoadTestReport of(LoadTestConfig config, Map<Endpoint, EndpointStats> stats, double measuredSeconds) {
+        LoadTestReport report = new LoadTestReport();
+        report.config = config.toMap();
+        report.measuredSeconds = measuredSeconds;
+
+        stats.forEach((endpoint, endpointStats) -> report.endpoints.put(endpoint.getKey(), Result.of(endpointStats, measuredSeconds)));
+
+        return report;
+    }
+
+    public void check(LoadTestConfig config) throws IOException {     // 오류율, endpoint별 p99 상한, baseline 대비 p99 증가율 확인
+        JsonNode baseline = config.getBaseline().isEmpty() ? null : OBJECT_MAPPER.readTree(new File(config.getBaseline())).get("endpoints");
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            Result result = endpoints.get(endpoint.getKey());
+            if (result == null || result.count == 0) {
+                continue;
+            }
+
+            if (result.errorRate > config.getMaxErrorRate()) {
+                violations.add(String.format("%s 오류율 %.4f > %.4f", endpoint.getKey(), result.errorRate, config.getMaxErrorRate()));
+            }
+
+            Double p99Budget = config.getP99BudgetMillis(endpoint);
+            if (p99Budget != null && result.p99Ms > p99Budget) {
+                violations.add(String.format("%s p99 %.2fms > %.2fms", endpoint.getKey(), result.p99Ms, p99Budget));
+            }
+
+            JsonNode before = baseline != null ? baseline.get(endpoint.getKey()) : null;
+            if (before != null && result.p99Ms > before.get("p99Ms").asDouble() * (1 + config.getMaxRegression())) {
+                violations.add(String.format("%s p99 %.2fms, baseline %.2fms 대비 %.0f%% 초과 증가", endpoint.getKey(), result.p99Ms, before.get("p99Ms").asDouble(), config.getMaxRegression() * 100));
+            }
+        }
+    }
+
+    public void write(File file) throws IOException {
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        OBJECT_MAPPER.writeValue(file, this);
+    }
+
+    public Map<String, String> getConfig() {
+        return config;
+    }
+
+    public double getMeasuredSeconds() {
+        return measuredSeconds;
+    }
+
+    public Map<String, Result> getEndpoints() {
+        return endpoints;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public static class Result {
+
+        private long count;
+
+        private long errors;
+
+        private double errorRate;
+
+        private double throughput;     // 초당 응답 수
+
+        private double p50Ms;
+
+        private double p99Ms;
+
+        private double p999Ms;
+
+        private double maxMs;
+
+        static Result of(EndpointStats stats, double measuredSeconds) {
+            Result result = new Result();
+            result.count = stats.getCount();
+            result.errors = stats.getErrors();
+            result.errorRate = result.count > 0 ? (double) result.errors / result.count : 0;
+            result.throughput = result.count / measuredSeconds;
+            result.p50Ms = stats.getPercentileMillis(50);
+            result.p99Ms = stats.getPercentileMillis(99);
+            result.p999Ms = stats.getPercentileMillis(99.9);
+            result.maxMs = stats.getMaxMillis();
+
+            return result;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public double getP999Ms() {
+            return p999Ms;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+    }
+
+}
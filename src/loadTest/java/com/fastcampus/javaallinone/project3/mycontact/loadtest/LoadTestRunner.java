@@ -0,0 +1,147 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import com.fastcampus.javaallinone.project3.mycontact.MycontactApplication;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadTestRunner {      // ./gradlew loadTest : application을 임의 port로 기동하고 H2에 data를 저장한 뒤 endpoint 혼합 부하를 일정한 간격(open-loop)으로 발생
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+
+        // application.yml보다 우선하도록 command line 인자로 전달 (SpringApplicationBuilder.properties는 기본값으로만 사용됨)
+        List<String> applicationArgs = new ArrayList<>(List.of("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN"));
+        for (String property : config.getApplicationProperties()) {
+            applicationArgs.add("--" + property);
+        }
+
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(MycontactApplication.class).run(applicationArgs.toArray(new String[0]));
+
+        LoadTestReport report;
+        try {
+            LoadTestContext target = seed(context, config);
+            Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+            config.getMix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+
+            run(target, config, stats);
+
+            report = LoadTestReport.of(config, stats, config.getDurationSeconds());
+            report.check(config);
+            report.write(new File(config.getReport()));
+        } finally {
+            context.close();
+        }
+
+        report.getEndpoints().forEach((endpoint, result) -> System.out.printf("%-18s count=%7d errors=%5d throughput=%8.1f/s p50=%8.2fms p99=%8.2fms p999=%8.2fms max=%8.2fms%n",
+                                                                              endpoint, result.getCount(), result.getErrors(), result.getThroughput(), result.getP50Ms(), result.getP99Ms(), result.getP999Ms(), result.getMaxMs()));
+        System.out.println("report : " + new File(config.getReport()).getAbsolutePath());
+
+        if (!report.getViolations().isEmpty()) {
+            report.getViolations().forEach(violation -> System.err.println("허용 범위 초과 : " + violation));
+            System.exit(1);
+        }
+    }
+
+    private static LoadTestContext seed(ServletWebServerApplicationContext context, LoadTestConfig config) {     // PersonService로 저장하여 검색용 index, cache도 실제와 같은 경로로 구성
+        PersonService personService = context.getBean(PersonService.class);
+        Random random = new Random(1);
+
+        for (int from = 0; from < config.getSeed(); from += SEED_CHUNK_SIZE) {
+            List<PersonDto> chunk = new ArrayList<>(SEED_CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + SEED_CHUNK_SIZE, config.getSeed()); i++) {
+                chunk.add(PersonDto.of(LoadTestContext.SEED_NAME, "programming", "판교", LocalDate.of(1970, 1, 1).plusDays(random.nextInt(365 * 40)), "programmer", LoadTestContext.seedPhoneNumber(i)));
+            }
+
+            personService.putAll(chunk);
+        }
+
+        Map<String, Object> range = context.getBean(JdbcTemplate.class).queryForMap("select min(id) as min_id, max(id) as max_id from person");
+
+        return new LoadTestContext("http://localhost:" + context.getWebServer().getPort(),
+                                   ((Number) range.get("MIN_ID")).longValue(),
+                                   ((Number) range.get("MAX_ID")).longValue());
+    }
+
+    private static void run(LoadTestContext target, LoadTestConfig config, Map<Endpoint, EndpointStats> stats) throws InterruptedException, TimeoutException {
+        ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                                      .version(HttpClient.Version.HTTP_1_1)
+                                      .connectTimeout(Duration.ofSeconds(5))
+                                      .executor(callbacks)
+                                      .build();
+
+        Endpoint[] schedule = weightedSchedule(config.getMix());
+        Random random = new Random(2);
+        Phaser inFlight = new Phaser(1);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;     // 예정된 요청 시각 : 응답이 늦어져도 다음 요청을 미루지 않음
+            if (intended >= end) {
+                break;
+            }
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = schedule[random.nextInt(schedule.length)];
+            HttpRequest request = endpoint.request(target, random);
+            boolean measured = intended >= measureFrom;
+
+            inFlight.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                  .whenComplete((response, error) -> {
+                      long latency = System.nanoTime() - intended;     // 실제 전송 시각이 아닌 예정 시각부터 측정 (coordinated omission 방지)
+                      if (measured) {
+                          stats.get(endpoint).record(latency, error == null && response.statusCode() < 400);
+                      }
+
+                      inFlight.arriveAndDeregister();
+                  });
+        }
+
+        inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 1, TimeUnit.MINUTES);
+        callbacks.shutdown();
+    }
+
+    private static Endpoint[] weightedSchedule(Map<Endpoint, Integer> mix) {   // 비율만큼 endpoint를 반복한 배열에서 무작위로 선택
+        List<Endpoint> schedule = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(endpoint);
+            }
+        });
+
+        return schedule.toArray(new Endpoint[0]);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import com.fastcampus.javaallinone.project3.mycontact.MycontactApplication;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.SnapshotResult;
+import com.fastcampus.javaallinone.project3.mycontact.service.StorageSnapshotService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StartupBenchmark {    // ./gradlew startupBenchmark -Pstartup.persons=1000000,10000000 : persistent profile의 기동 시간 (기존 DB file, snapshot 복원)
+
+    public static void main(String[] args) throws Exception {
+        Path root = Files.createTempDirectory("mycontact-startup");
+
+        try {
+            for (String persons : System.getProperty("startup.persons", "1000000,10000000").split(",")) {
+                run(root.resolve(persons.trim()), Long.parseLong(persons.trim()));
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(root);
+        }
+    }
+
+    private static void run(Path directory, long persons) {
+        Path node = directory.resolve("node");
+
+        // 1. 빈 DB로 기동하여 data 저장 후 snapshot 생성
+        long seedMillis;
+        SnapshotResult snapshot;
+        try (ConfigurableApplicationContext context = boot(node, null).context) {
+            seedMillis = seed(context.getBean(JdbcTemplate.class), persons);
+            snapshot = context.getBean(StorageSnapshotService.class).create();
+        }
+
+        // 2. 기존 DB file로 재기동
+        Startup restart = boot(node, null);
+        restart.context.close();
+
+        // 3. DB file이 없는 새 node를 snapshot에서 복원하여 기동
+        Startup restore = boot(directory.resolve("restored"), snapshot.getFile());
+        restore.context.close();
+
+        System.out.printf("persons=%,d seed=%,dms snapshot=%,dms (%,d bytes)%n", persons, seedMillis, snapshot.getElapsedMillis(), snapshot.getBytes());
+        System.out.printf("  restart            : started=%,dms ready=%,dms%n", restart.startedMillis, restart.readyMillis);
+        System.out.printf("  restore + start    : started=%,dms ready=%,dms%n", restore.startedMillis, restore.readyMillis);
+        System.out.println("  (started : context 구성 완료, ready : 검색 index 구성까지 완료)");
+    }
+
+    private static Startup boot(Path directory, String restoreFrom) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--logging.level.root=WARN", "--mycontact.storage.directory=" + directory));
+        if (restoreFrom != null) {
+            args.add("--mycontact.storage.restore-from=" + restoreFrom);
+        }
+
+        long start = System.nanoTime();
+        long[] started = new long[1];
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MycontactApplication.class)
+                .profiles("persistent")
+                .listeners((ApplicationListener<ApplicationStartedEvent>) event -> started[0] = System.nanoTime())
+                .run(args.toArray(new String[0]));
+
+        return new Startup(context, (started[0] - start) / 1_000_000, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static long seed(JdbcTemplate jdbcTemplate, long persons) {     // 대량 저장은 application을 거치지 않고 insert ... select로 한 번에 생성 (phone_key도 채워서 기동 시 backfill이 없도록 함)
+        long start = System.nanoTime();
+
+        jdbcTemplate.update("insert into person (id, name, hobby, address, job, phone_number, phone_key, year_of_birthday, month_of_birthday, day_of_birthday, month_day_of_birthday, deleted, version, updated_at) "
+                            + "select x, 'load' || x, 'programming', '판교', 'programmer', "
+                            + "'010-' || lpad(cast(mod(x / 10000, 10000) as varchar), 4, '0') || '-' || lpad(cast(mod(x, 10000) as varchar), 4, '0'), 821000000000 + mod(x, 100000000), 1970 + mod(x, 40), mod(x, 12) + 1, mod(x, 28) + 1, (mod(x, 12) + 1) * 100 + mod(x, 28) + 1, false, 0, current_timestamp "
+                            + "from system_range(1, ?)", persons);
+        jdbcTemplate.execute("alter sequence person_seq restart with " + (persons + 1));
+
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static class Startup {
+
+        private final ConfigurableApplicationContext context;
+
+        private final long startedMillis;
+
+        private final long readyMillis;
+
+        private Startup(ConfigurableApplicationContext context, long startedMillis, long readyMillis) {
+            this.context = context;
+            this.startedMillis = startedMillis;
+            this.readyMillis = readyMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.fastcampus.javaallinone.project3.mycontact.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class StartupReport {       // ./gradlew startupReport : 기본 설정, faststart profile, faststart + CDS archive를 각각 새 JVM으로 기동하여 비교
+
+    private static final String MAIN_CLASS = "com.fastcampus.javaallinone.project3.mycontact.MycontactApplication";
+
+    public static void main(String[] args) throws Exception {
+        String classpath = System.getProperty("startup.classpath");
+        File archive = new File(System.getProperty("startup.cds-archive", "build/cds/mycontact.jsa"));
+        int runs = Integer.getInteger("startup.runs", 5);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", Collections.emptyList());
+        variants.put("faststart", List.of("--spring.profiles.active=faststart"));
+        if (archive.exists()) {
+            variants.put("faststart+cds", List.of("-XX:SharedArchiveFile=" + archive.getAbsolutePath(), "-Xshare:auto", "--spring.profiles.active=faststart"));
+        } else {
+            System.out.println(archive + "가 없으므로 CDS 측정 제외 (./gradlew cdsArchive)");
+        }
+
+        Map<String, Map<String, Long>> report = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] firstResponse = new long[runs];
+            long[] firstRequest = new long[runs];
+
+            for (int i = 0; i < runs; i++) {
+                long[] result = measure(classpath, variant.getValue());
+                firstResponse[i] = result[0];
+                firstRequest[i] = result[1];
+            }
+
+            Map<String, Long> result = new LinkedHashMap<>();
+            result.put("timeToFirstResponseMsMedian", median(firstResponse));
+            result.put("timeToFirstResponseMsMin", Arrays.stream(firstResponse).min().getAsLong());
+            result.put("firstRequestMsMedian", median(firstRequest));
+            report.put(variant.getKey(), result);
+
+            System.out.printf("%-14s time-to-first-response median=%,6dms min=%,6dms  first-request median=%,5dms%n",
+                              variant.getKey(), result.get("timeToFirstResponseMsMedian"), result.get("timeToFirstResponseMsMin"), result.get("firstRequestMsMedian"));
+        }
+
+        File file = new File(System.getProperty("startup.report", "build/reports/startup/report.json"));
+        file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("report : " + file.getAbsolutePath());
+    }
+
+    // [process 시작 ~ 첫 응답까지(ms), 첫 요청 하나의 처리 시간(ms)] : JVM/context 기동과 lazy 초기화 비용이 모두 포함되도록 GET /api/person이 처음 응답할 때까지 반복 요청
+    private static long[] measure(String classpath, List<String> options) throws IOException, InterruptedException {
+        int port = freePort();
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        options.stream().filter(option -> option.startsWith("-X")).forEach(command::add);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS, "--server.port=" + port, "--logging.level.root=WARN"));
+        options.stream().filter(option -> option.startsWith("--")).forEach(command::add);
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/person")).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("기동 실패 : " + String.join(" ", command));
+                }
+
+                long requestStart = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        long end = System.nanoTime();
+
+                        return new long[]{TimeUnit.NANOSECONDS.toMillis(end - start), TimeUnit.NANOSECONDS.toMillis(end - requestStart)};
+                    }
+                } catch (ConnectException notListening) {
+                    Thread.sleep(5);
+                }
+            }
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        return sorted[sorted.length / 2];
+    }
+
+}
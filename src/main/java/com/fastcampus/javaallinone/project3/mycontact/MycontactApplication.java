@@ -2,8 +2,10 @@ package com.fastcampus.javaallinone.project3.mycontact;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling      // service.PersonArchiveService
 public class MycontactApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,25 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PERSON_CACHE = "person";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${mycontact.cache.person.spec}") String personCacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PERSON_CACHE);     // cache 이름을 고정하여 정의되지 않은 cache가 생성되지 않도록 함
+        cacheManager.setCacheSpecification(personCacheSpec);
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);    // put/evict를 transaction commit 이후에 반영하여 rollback된 값이나 commit 전 값이 cache에 남지 않도록 함
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonArchiveService;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonCountService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Profile("faststart")       // --spring.profiles.active=faststart (application-faststart.yml), ./gradlew cdsArchive로 만든 archive와 함께 사용
+public class FastStartConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter fastStartEagerBeans() {
+        // EntityManagerFactory는 기동 시 background에서 미리 구성하여 첫 요청이 Hibernate 초기화를 기다리는 시간을 줄이고, DataSource는 이를 위해 필요함
+        // @Scheduled 작업이 있는 service, 기동 시 data를 보정하는 PersonSchemaInitializer는 lazy로 두면 처음 사용될 때까지 생성되지 않음
+        return LazyInitializationExcludeFilter.forBeanTypes(AbstractEntityManagerFactoryBean.class, DataSource.class, PersonArchiveService.class, PersonCountService.class,
+                                                            PersonSchemaInitializer.class);
+    }
+
+}
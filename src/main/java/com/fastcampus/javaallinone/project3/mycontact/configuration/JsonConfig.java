@@ -1,30 +1,85 @@
 package com.fastcampus.javaallinone.project3.mycontact.configuration;
 
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.BirthdayDeserializer;
 import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.BirthdaySerializer;
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonDeserializer;
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonDtoDeserializer;
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonDtoSerializer;
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonSerializer;
+import com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonSummarySerializer;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
 import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class JsonConfig {
 
+    // Accept header로 형식 선택 : application/json(default), application/x-jackson-smile, application/cbor
+    // 같은 class의 Spring 기본 converter를 대체하므로 세 형식 모두 아래 module(BirthdayModule, PersonModule)로 읽고 씀
     @Bean
-    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        MappingJackson2HttpMessageConverter converter = new TimedMappingJackson2HttpMessageConverter(meterRegistry);
         converter.setObjectMapper(objectMapper);
 
         return converter;
     }
 
     @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(SmileMapper smileMapper, MeterRegistry meterRegistry) {
+        return new TimedMappingJackson2SmileHttpMessageConverter(smileMapper, meterRegistry);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(CBORMapper cborMapper, MeterRegistry meterRegistry) {
+        return new TimedMappingJackson2CborHttpMessageConverter(cborMapper, meterRegistry);
+    }
+
+    @Bean
+    @Primary        // ObjectMapper type으로 주입받는 곳(export, import 등)은 JSON
     public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    @Bean
+    public SmileMapper smileMapper() {     // 목록 응답은 hobby, address, job 값이 반복되므로 field 이름뿐 아니라 짧은 문자열 값도 back reference로 씀
+        SmileFactory smileFactory = SmileFactory.builder()
+                                                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                                                .build();
+
+        return configure(new SmileMapper(smileFactory));
+    }
+
+    @Bean
+    public CBORMapper cborMapper() {
+        return configure(new CBORMapper());
+    }
+
+    private static <T extends ObjectMapper> T configure(T objectMapper) {
         objectMapper.registerModule(new BirthdayModule());
+        objectMapper.registerModule(new PersonModule());
         objectMapper.registerModule(new JavaTimeModule());
 
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
@@ -32,10 +87,101 @@ public class JsonConfig {
         return objectMapper;
     }
 
+    private static void recordSerialization(MeterRegistry meterRegistry, String format, Object object, long start) {     // 응답 body 직렬화 시간 (tag : 형식, 응답 객체 type)
+        Timer.builder("mycontact.json.serialization")
+             .tag("format", format)
+             .tag("type", object.getClass().getSimpleName())
+             .register(meterRegistry)
+             .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    static class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedMappingJackson2HttpMessageConverter(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+            long start = System.nanoTime();
+
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                recordSerialization(meterRegistry, "json", object, start);
+            }
+        }
+
+    }
+
+    static class TimedMappingJackson2SmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedMappingJackson2SmileHttpMessageConverter(SmileMapper smileMapper, MeterRegistry meterRegistry) {
+            super(smileMapper);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+            long start = System.nanoTime();
+
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                recordSerialization(meterRegistry, "smile", object, start);
+            }
+        }
+
+    }
+
+    static class TimedMappingJackson2CborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+        private final MeterRegistry meterRegistry;
+
+        TimedMappingJackson2CborHttpMessageConverter(CBORMapper cborMapper, MeterRegistry meterRegistry) {
+            super(cborMapper);
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+            long start = System.nanoTime();
+
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                recordSerialization(meterRegistry, "cbor", object, start);
+            }
+        }
+
+    }
+
     static class BirthdayModule extends SimpleModule {
+
+        private static final long serialVersionUID = 1L;
+
         BirthdayModule() {
             super();
             addSerializer(Birthday.class, new BirthdaySerializer());
+            addDeserializer(Birthday.class, new BirthdayDeserializer());
+        }
+    }
+
+    static class PersonModule extends SimpleModule {     // 자주 주고받는 type은 reflection 기반 bean serializer 대신 직접 작성한 serializer 사용 (출력은 byte 단위로 동일), JSON/Smile/CBOR 공통
+
+        private static final long serialVersionUID = 1L;
+
+        PersonModule() {
+            super();
+            addSerializer(Person.class, new PersonSerializer());
+            addDeserializer(Person.class, new PersonDeserializer());
+            addSerializer(PersonSummary.class, new PersonSummarySerializer());
+            addSerializer(PersonDto.class, new PersonDtoSerializer());
+            addDeserializer(PersonDto.class, new PersonDtoDeserializer());
         }
     }
 
@@ -0,0 +1,57 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.SnapshotResult;
+import com.fastcampus.javaallinone.project3.mycontact.service.StorageSnapshotService;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+@Profile("persistent")      // --spring.profiles.active=persistent : in-memory 대신 file H2 사용 (application-persistent.yml)
+public class PersistentStorageConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor storageRestorer(Environment environment) {     // bean 생성(DataSource 포함) 전에 실행되므로 DB file을 먼저 복원해 둘 수 있음
+        return beanFactory -> {
+            if (environment.getRequiredProperty("mycontact.storage.restore-on-boot", Boolean.class)) {
+                StorageSnapshotService.restoreIfEmpty(environment.getRequiredProperty("mycontact.storage.directory"),
+                                                      environment.getRequiredProperty("mycontact.storage.snapshot-directory"),
+                                                      environment.getProperty("mycontact.storage.restore-from"));
+            }
+        };
+    }
+
+    @Bean
+    public SnapshotEndpoint snapshotEndpoint(StorageSnapshotService storageSnapshotService) {
+        return new SnapshotEndpoint(storageSnapshotService);
+    }
+
+    @Endpoint(id = "snapshot")
+    public static class SnapshotEndpoint {     // create : snapshot 생성, list : 보관 중인 snapshot 목록 (기본은 JMX로만 노출, application-persistent.yml 참고)
+
+        private final StorageSnapshotService storageSnapshotService;
+
+        SnapshotEndpoint(StorageSnapshotService storageSnapshotService) {
+            this.storageSnapshotService = storageSnapshotService;
+        }
+
+        @WriteOperation
+        public SnapshotResult create() {
+            return storageSnapshotService.create();
+        }
+
+        @ReadOperation
+        public List<String> list() {
+            return storageSnapshotService.list();
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)      // transaction, cache interceptor 바깥에서 측정하여 commit 시간과 cache hit도 포함
+public class PersonMetricsAspect {     // PersonService, PersonRepository method별 호출 시간/횟수 (tag : class, method, outcome, exception)
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(com.fastcampus.javaallinone.project3.mycontact.service.PersonService)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("mycontact.service", "PersonService", joinPoint);
+    }
+
+    @Around("this(com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository)")    // JpaRepository에서 상속한 method(findById 등)도 포함
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("mycontact.repository", "PersonRepository", joinPoint);
+    }
+
+    private Object time(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();      // ex. PersonNotFoundException, RenameNotPermittedException
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(name)
+                             .tag("class", className)
+                             .tag("method", joinPoint.getSignature().getName())
+                             .tag("outcome", exception.equals("none") ? "success" : "error")
+                             .tag("exception", exception)
+                             .register(meterRegistry));
+        }
+    }
+
+}
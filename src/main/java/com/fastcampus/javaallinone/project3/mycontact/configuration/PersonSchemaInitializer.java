@@ -0,0 +1,111 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PhoneNumberKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+@Component
+@Slf4j
+public class PersonSchemaInitializer implements InitializingBean {    // 기존 data가 있는 DB에서 schema 변경 후 필요한 data 보정을 web server가 요청을 받기 전(bean 초기화 시점)에 수행
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;     // Hibernate의 schema 생성과 data.sql 실행이 끝난 뒤에 초기화되도록 의존
+
+    @Override
+    public void afterPropertiesSet() {
+        entityManagerFactory.getMetamodel();        // bootstrap-mode: deferred(faststart)이면 background에서 구성 중인 EntityManagerFactory를 기다림
+
+        alignPersonSequence();
+        fillMonthDayOfBirthday();
+        fillVersion();
+        fillDeletedAt();
+        fillPhoneKey();
+    }
+
+    private void alignPersonSequence() {    // IDENTITY 전략으로 저장된 기존 id(data.sql 포함)와 겹치지 않도록 sequence를 max(id) 이후로 이동
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from person", Long.class);
+        Long nextValue = jdbcTemplate.queryForObject("select next value for person_seq", Long.class);
+
+        if (nextValue <= maxId) {
+            jdbcTemplate.execute("alter sequence person_seq restart with " + (maxId + 1));
+
+            log.info("person_seq를 {}부터 다시 시작하도록 변경", maxId + 1);
+        }
+    }
+
+    private void fillMonthDayOfBirthday() {     // month_day_of_birthday column 추가 이전에 저장된 row의 값을 채움
+        String condition = "month_day_of_birthday is null and month_of_birthday is not null and day_of_birthday is not null";
+        if (!exists(condition)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update("update person set month_day_of_birthday = month_of_birthday * 100 + day_of_birthday where " + condition);
+
+        log.info("month_day_of_birthday {}건 보정", updated);
+    }
+
+    private void fillVersion() {    // version, updated_at column 추가 이전에 저장된 row의 값을 채움 (version이 null이면 수정 시 낙관적 잠금이 동작하지 않음)
+        String condition = "version is null or updated_at is null";
+        if (!exists(condition)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update("update person set version = coalesce(version, 0), updated_at = coalesce(updated_at, current_timestamp) where " + condition);
+
+        log.info("version, updated_at {}건 보정", updated);
+    }
+
+    private void fillDeletedAt() {      // deleted_at column 추가 이전에 삭제된 row는 마지막 수정 시각을 삭제 시각으로 사용 (이 시각부터 보관 기간 계산)
+        String condition = "deleted = true and deleted_at is null";
+        if (!exists(condition)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update("update person set deleted_at = coalesce(updated_at, current_timestamp) where " + condition);
+
+        log.info("deleted_at {}건 보정", updated);
+    }
+
+    private void fillPhoneKey() {       // phone_key column 추가 이전에 저장된 row의 정규화한 번호를 채움 (이미 같은 번호가 있는 row는 비워두고 log로 남김)
+        String condition = "deleted = false and phone_key is null and phone_number is not null";
+        if (!exists(condition)) {
+            return;
+        }
+
+        List<Object[]> rows = jdbcTemplate.query("select id, phone_number from person where " + condition + " order by id",
+                                                 (resultSet, rowNum) -> new Object[]{resultSet.getLong("id"), resultSet.getString("phone_number")});
+
+        int updated = 0;
+        for (Object[] row : rows) {
+            Long phoneKey = PhoneNumberKey.of((String) row[1]);
+            if (phoneKey == null) {
+                continue;
+            }
+
+            try {       // 중복 여부는 uk_person_phone_key로 확인 (기존 번호 전체를 메모리에 올리지 않음)
+                updated += jdbcTemplate.update("update person set phone_key = ? where id = ?", phoneKey, row[0]);
+            } catch (DuplicateKeyException e) {
+                log.warn("person {}의 전화번호가 다른 person과 중복되어 phone_key를 비워둠", row[0]);
+            }
+        }
+
+        if (updated > 0) {
+            log.info("phone_key {}건 보정", updated);
+        }
+    }
+
+    private boolean exists(String condition) {     // 보정할 row가 없으면 전체 update 없이 바로 끝냄 (매 기동 시 실행됨)
+        return !jdbcTemplate.queryForList("select id from person where " + condition + " limit 1", Long.class).isEmpty();
+    }
+
+}
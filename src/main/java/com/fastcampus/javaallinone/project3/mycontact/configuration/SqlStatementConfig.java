@@ -0,0 +1,47 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourcePostProcessor(Environment environment) {     // DataSource를 datasource-proxy로 감싸서 모든 SQL 실행을 SqlStatementListener에 전달
+        SqlStatementListener listener = new SqlStatementListener(environment.getRequiredProperty("mycontact.sql.slow-threshold-ms", Long.class),
+                                                                 environment.getRequiredProperty("mycontact.sql.slow-sample-rate", Double.class));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                return ProxyDataSourceBuilder.create((DataSource) bean)
+                                             .name(beanName)
+                                             .listener(listener)
+                                             .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(new SqlStatementFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);      // ShallowEtagHeaderFilter보다 바깥 : buffer된 body를 쓰는 시점에 header 추가
+
+        return registration;
+    }
+
+}
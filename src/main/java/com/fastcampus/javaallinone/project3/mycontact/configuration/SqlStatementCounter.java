@@ -0,0 +1,59 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import java.util.concurrent.TimeUnit;
+
+public final class SqlStatementCounter {     // 현재 thread(요청)에서 실행한 SQL 수와 JDBC 실행 시간 합계
+
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private int count;
+
+    private long elapsedNanos;
+
+    private long startNanos;
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatementCounter start() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        CURRENT.set(counter);
+
+        return counter;
+    }
+
+    public static SqlStatementCounter stop() {
+        SqlStatementCounter counter = CURRENT.get();
+        CURRENT.remove();
+
+        return counter;
+    }
+
+    static void beforeExecute() {
+        SqlStatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.startNanos = System.nanoTime();
+        }
+    }
+
+    static void afterExecute() {     // batch는 묶인 statement 수와 관계없이 DB 왕복 1번으로 셈
+        SqlStatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+            counter.elapsedNanos += System.nanoTime() - counter.startNanos;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+public class SqlStatementFilter extends OncePerRequestFilter {     // 요청마다 실행한 SQL 수와 JDBC 시간을 응답 header와 metric으로 남김
+
+    public static final String SQL_COUNT_HEADER = "X-SQL-Count";
+
+    public static final String SQL_TIME_HEADER = "X-SQL-Time";      // ms
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter counter = SqlStatementCounter.start();
+        SqlHeaderResponse sqlHeaderResponse = new SqlHeaderResponse(response, counter);
+
+        try {
+            filterChain.doFilter(request, sqlHeaderResponse);
+        } finally {
+            SqlStatementCounter.stop();
+            sqlHeaderResponse.writeHeaders();     // body가 없는 응답
+            record(request, counter);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();      // path variable 값마다 tag가 늘어나지 않도록 /api/person/{id} 형태 사용
+
+        DistributionSummary.builder("mycontact.http.sql.statements")
+                           .tag("method", request.getMethod())
+                           .tag("uri", uri)
+                           .register(meterRegistry)
+                           .record(counter.getCount());
+        Timer.builder("mycontact.http.sql.time")
+             .tag("method", request.getMethod())
+             .tag("uri", uri)
+             .register(meterRegistry)
+             .record(counter.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static class SqlHeaderResponse extends HttpServletResponseWrapper {    // 응답이 commit되기 전(body를 쓰기 시작할 때)에 header 추가
+
+        private final SqlStatementCounter counter;
+
+        private boolean written;
+
+        private SqlHeaderResponse(HttpServletResponse response, SqlStatementCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        private void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+
+            written = true;
+            setHeader(SQL_COUNT_HEADER, String.valueOf(counter.getCount()));
+            setHeader(SQL_TIME_HEADER, String.valueOf(counter.getElapsedMillis()));
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {     // show-sql 대신 : 모든 SQL은 수/시간만 세고, 느린 SQL만 sampling하여 별도 thread에서 log
+
+    private final long slowThresholdMillis;
+
+    private final double slowSampleRate;
+
+    // log 출력이 밀려도 요청 thread를 막지 않도록 queue가 가득 차면 버림
+    private final ExecutorService slowLogExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                                            new ArrayBlockingQueue<>(1000),
+                                                                            runnable -> {
+                                                                                Thread thread = new Thread(runnable, "slow-sql-log");
+                                                                                thread.setDaemon(true);
+                                                                                return thread;
+                                                                            },
+                                                                            new ThreadPoolExecutor.DiscardPolicy());
+
+    public SqlStatementListener(long slowThresholdMillis, double slowSampleRate) {
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementCounter.beforeExecute();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementCounter.afterExecute();
+
+        long elapsedMillis = execInfo.getElapsedTime();
+        if (elapsedMillis < slowThresholdMillis || ThreadLocalRandom.current().nextDouble() >= slowSampleRate) {
+            return;
+        }
+
+        String queries = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        boolean success = execInfo.isSuccess();
+        slowLogExecutor.execute(() -> log.warn("느린 SQL ({}ms, success={}) : {}", elapsedMillis, success, queries));
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "mycontact.virtual-threads.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {     // 요청 처리(controller -> @Transactional service -> JDBC)를 platform thread pool 대신 virtual thread에서 실행
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            log.warn("virtual thread를 지원하지 않는 JDK({})이므로 기본 thread pool을 사용", Runtime.version());
+
+            return protocolHandler -> { };
+        }
+
+        log.info("요청 처리에 virtual thread 사용");
+
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(@Value("${mycontact.virtual-threads.max-concurrent-requests}") int maxConcurrentRequests,
+                                                                                 @Value("${mycontact.virtual-threads.acquire-timeout-ms}") long acquireTimeoutMillis,
+                                                                                 ObjectMapper objectMapper) {
+        // thread 수 제한이 없어지므로 동시에 처리하는 요청 수를 직접 제한하여 connection pool 대기열이 끝없이 길어지지 않도록 함
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeoutMillis, objectMapper));
+        registration.addUrlPatterns("/api/*");
+
+        return registration;
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {     // JDK 21 이상에서만 존재하는 method이므로 reflection으로 호출 (sourceCompatibility 11 유지)
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {     // 목록 응답은 body의 hash로 ETag를 만들어 변경이 없으면 304 반환 (전송량 절감)
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/person", "/api/person/birthday-friends", "/api/person/search", "/api/person/suggest");     // export는 응답 전체를 buffer에 담지 않도록 제외
+
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {     // Accept에 따라 JSON, Smile, CBOR로 응답하므로 cache가 형식별로 따로 저장하도록 Vary 추가 (304 응답 포함)
+        registry.addInterceptor(new VaryAcceptInterceptor())
+                .addPathPatterns("/api/person", "/api/person/**")
+                .excludePathPatterns("/api/person/export");     // export는 format parameter로 형식 선택
+    }
+
+    static class VaryAcceptInterceptor implements HandlerInterceptor {
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+public class BirthdayDeserializer extends JsonDeserializer<Birthday> {     // BirthdaySerializer가 쓴 "yyyy-MM-dd"를 읽음 (CBOR은 tag 100의 일 수도 허용)
+
+    @Override
+    public Birthday deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return read(p, ctxt);
+    }
+
+    static Birthday read(JsonParser p, DeserializationContext ctxt) throws IOException {
+        LocalDate date = readDate(p, ctxt);
+
+        return date == null ? null : Birthday.of(date);
+    }
+
+    static LocalDate readDate(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            try {
+                LocalDate date = IsoDates.parse(p);
+                if (date != null) {
+                    return date;
+                }
+            } catch (DateTimeException ignored) {
+                // 형식은 맞지만 존재하지 않는 날짜 : 기본 deserializer에서 같은 오류 메시지로 처리
+            }
+        }
+
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            LocalDate date = IsoDates.parseDays(p);
+            if (date != null) {
+                return date;
+            }
+        }
+
+        return ctxt.readValue(p, LocalDate.class);      // 빈 문자열, 배열([1991,8,15]) 등 나머지 형식은 JavaTimeModule에 위임
+    }
+
+}
@@ -6,17 +6,21 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 import java.io.IOException;
-import java.time.LocalDate;
 
-public class BirthdaySerializer extends JsonSerializer<Birthday> {
+public class BirthdaySerializer extends JsonSerializer<Birthday> {     // "yyyy-MM-dd" : LocalDate를 만들어 JavaTimeModule에 넘기지 않고 연/월/일 값을 바로 씀
 
     @Override
     public void serialize(Birthday value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write(value, gen);
+    }
 
-        if (value != null) {
-            gen.writeObject(LocalDate.of(value.getYearOfBirthday(), value.getMonthOfBirthday(), value.getDayOfBirthday()));
+    static void write(Birthday value, JsonGenerator gen) throws IOException {
+        if (value == null || value.getYearOfBirthday() == null) {
+            gen.writeNull();
+            return;
         }
 
+        IsoDates.write(gen, value.getYearOfBirthday(), value.getMonthOfBirthday(), value.getDayOfBirthday());
     }
 
 }
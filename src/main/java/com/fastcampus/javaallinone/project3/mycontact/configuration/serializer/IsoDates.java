@@ -0,0 +1,106 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+final class IsoDates {     // LocalDate.toString()과 같은 "yyyy-MM-dd" 형식을 LocalDate, String 생성 없이 직접 쓰고 읽음
+
+    static final int CBOR_FULL_DATE_TAG = 1004;     // RFC 8943 : "yyyy-MM-dd" 문자열
+
+    static final int CBOR_DAYS_TAG = 100;       // RFC 8943 : 1970-01-01 기준 일 수 (정수)
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[16]);     // 부호 + 10자리 연도 + -MM-dd
+
+    private IsoDates() {
+    }
+
+    static void write(JsonGenerator gen, int year, int month, int day) throws IOException {
+        char[] buffer = BUFFER.get();
+        int length = 0;
+
+        int absYear = Math.abs(year);
+        if (absYear < 10000) {      // LocalDate.toString()과 동일 : 4자리 미만은 0으로 채우고, 음수는 앞에 '-'
+            if (year < 0) {
+                buffer[length++] = '-';
+            }
+
+            buffer[length++] = (char) ('0' + absYear / 1000);
+            buffer[length++] = (char) ('0' + absYear / 100 % 10);
+            buffer[length++] = (char) ('0' + absYear / 10 % 10);
+            buffer[length++] = (char) ('0' + absYear % 10);
+        } else {        // 5자리 이상은 '+' 또는 '-'를 붙이고 그대로 씀
+            buffer[length++] = year < 0 ? '-' : '+';
+
+            int digits = 0;
+            for (int value = absYear; value > 0; value /= 10) {
+                digits++;
+            }
+
+            for (int i = length + digits - 1, value = absYear; i >= length; i--, value /= 10) {
+                buffer[i] = (char) ('0' + value % 10);
+            }
+            length += digits;
+        }
+
+        buffer[length++] = '-';
+        buffer[length++] = (char) ('0' + month / 10);
+        buffer[length++] = (char) ('0' + month % 10);
+        buffer[length++] = '-';
+        buffer[length++] = (char) ('0' + day / 10);
+        buffer[length++] = (char) ('0' + day % 10);
+
+        if (gen instanceof CBORGenerator) {     // CBOR은 날짜임을 tag로 표시 (tag를 모르는 decoder는 같은 문자열로 읽음)
+            ((CBORGenerator) gen).writeTag(CBOR_FULL_DATE_TAG);
+        }
+
+        gen.writeString(buffer, 0, length);
+    }
+
+    static LocalDate parseDays(JsonParser p) throws IOException {     // CBOR 정수에 days tag가 붙어 있으면 LocalDate, 아니면 null
+        if (p instanceof CBORParser && ((CBORParser) p).getCurrentTag() == CBOR_DAYS_TAG) {
+            return LocalDate.ofEpochDay(p.getLongValue());
+        }
+
+        return null;
+    }
+
+    static LocalDate parse(JsonParser p) throws IOException {     // 현재 token(문자열)이 "yyyy-MM-dd"이면 LocalDate, 다른 형식이면 null (호출하는 쪽에서 기본 deserializer로 처리)
+        if (p.getTextLength() != 10) {
+            return null;
+        }
+
+        char[] text = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        if (text[offset + 4] != '-' || text[offset + 7] != '-') {
+            return null;
+        }
+
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);      // 존재하지 않는 날짜(ex. 2월 30일)이면 DateTimeException
+    }
+
+    private static int digits(char[] text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (text[i] < '0' || text[i] > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (text[i] - '0');
+        }
+
+        return value;
+    }
+
+}
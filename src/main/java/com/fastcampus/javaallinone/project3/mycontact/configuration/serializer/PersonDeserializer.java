@@ -0,0 +1,84 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+public class PersonDeserializer extends JsonDeserializer<Person> {     // PersonSerializer가 쓴 형식을 읽음, 계산 필드(age, birthdayToday)는 무시
+
+    @Override
+    public Person deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Person person = new Person();
+
+        for (JsonToken token = firstField(p, ctxt, Person.class); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+
+            switch (field) {
+                case "id":
+                    person.setId(p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Long.class));
+                    break;
+                case "name":
+                    person.setName(text(p, ctxt));
+                    break;
+                case "hobby":
+                    person.setHobby(text(p, ctxt));
+                    break;
+                case "address":
+                    person.setAddress(text(p, ctxt));
+                    break;
+                case "birthday":
+                    person.setBirthday(BirthdayDeserializer.read(p, ctxt));
+                    break;
+                case "job":
+                    person.setJob(text(p, ctxt));
+                    break;
+                case "phoneNumber":
+                    person.setPhoneNumber(text(p, ctxt));
+                    break;
+                case "deleted":
+                    person.setDeleted(Boolean.TRUE.equals(ctxt.readValue(p, Boolean.class)));
+                    break;
+                case "age":
+                case "birthdayToday":
+                    p.skipChildren();
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, Person.class, field);     // FAIL_ON_UNKNOWN_PROPERTIES 설정에 따라 오류 또는 무시
+            }
+        }
+
+        return person;
+    }
+
+    static JsonToken firstField(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {     // '{' 다음의 첫 field name (빈 객체이면 '}')
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.handleUnexpectedToken(type, p);
+        }
+
+        return token;
+    }
+
+    static String text(JsonParser p, DeserializationContext ctxt) throws IOException {     // bean deserializer와 같이 숫자, boolean도 문자열로 받음
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (token.isScalarValue()) {
+            return p.getText();
+        }
+
+        return (String) ctxt.handleUnexpectedToken(String.class, p);
+    }
+
+}
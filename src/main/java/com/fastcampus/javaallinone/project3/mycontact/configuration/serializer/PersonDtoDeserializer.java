@@ -0,0 +1,51 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+import static com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonDeserializer.firstField;
+import static com.fastcampus.javaallinone.project3.mycontact.configuration.serializer.PersonDeserializer.text;
+
+public class PersonDtoDeserializer extends JsonDeserializer<PersonDto> {     // 등록/수정 요청 body와 ndjson import의 한 줄
+
+    @Override
+    public PersonDto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        PersonDto personDto = new PersonDto();
+
+        for (JsonToken token = firstField(p, ctxt, PersonDto.class); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.getCurrentName();
+            p.nextToken();
+
+            switch (field) {
+                case "name":
+                    personDto.setName(text(p, ctxt));
+                    break;
+                case "hobby":
+                    personDto.setHobby(text(p, ctxt));
+                    break;
+                case "address":
+                    personDto.setAddress(text(p, ctxt));
+                    break;
+                case "birthday":
+                    personDto.setBirthday(BirthdayDeserializer.readDate(p, ctxt));
+                    break;
+                case "job":
+                    personDto.setJob(text(p, ctxt));
+                    break;
+                case "phoneNumber":
+                    personDto.setPhoneNumber(text(p, ctxt));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, PersonDto.class, field);
+            }
+        }
+
+        return personDto;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+public class PersonDtoSerializer extends JsonSerializer<PersonDto> {
+
+    @Override
+    public void serialize(PersonDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("name", value.getName());
+        gen.writeStringField("hobby", value.getHobby());
+        gen.writeStringField("address", value.getAddress());
+
+        gen.writeFieldName("birthday");
+        LocalDate birthday = value.getBirthday();
+        if (birthday == null) {
+            gen.writeNull();
+        } else {
+            IsoDates.write(gen, birthday.getYear(), birthday.getMonthValue(), birthday.getDayOfMonth());
+        }
+
+        gen.writeStringField("job", value.getJob());
+        gen.writeStringField("phoneNumber", value.getPhoneNumber());
+        gen.writeEndObject();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+public class PersonSerializer extends JsonSerializer<Person> {     // reflection 기반 bean 직렬화와 같은 순서/형식으로 field를 직접 씀 (version, updatedAt 제외)
+
+    private static volatile Today today = Today.now();
+
+    @Override
+    public void serialize(Person value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        Birthday birthday = value.getBirthday();
+        LocalDate today = today();
+
+        // Person.getAge(), isBirthdayToday()는 호출할 때마다 LocalDate.now()를 만들므로 하루 단위로 cache한 today로 계산
+        write(gen, value.getId(), value.getName(), value.getHobby(), value.getAddress(), birthday, value.getJob(), value.getPhoneNumber(), value.isDeleted(),
+              birthday == null ? null : birthday.getAge(today),
+              birthday != null && birthday.isBirthday(today));
+    }
+
+    static void write(JsonGenerator gen, Long id, String name, String hobby, String address, Birthday birthday, String job, String phoneNumber,
+                      boolean deleted, Integer age, boolean birthdayToday) throws IOException {
+        gen.writeStartObject();
+
+        gen.writeFieldName("id");
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(id);
+        }
+
+        gen.writeStringField("name", name);
+        gen.writeStringField("hobby", hobby);
+        gen.writeStringField("address", address);
+        gen.writeFieldName("birthday");
+        BirthdaySerializer.write(birthday, gen);
+        gen.writeStringField("job", job);
+        gen.writeStringField("phoneNumber", phoneNumber);
+        gen.writeBooleanField("deleted", deleted);
+
+        gen.writeFieldName("age");
+        if (age == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(age);
+        }
+
+        gen.writeBooleanField("birthdayToday", birthdayToday);
+
+        gen.writeEndObject();
+    }
+
+    static LocalDate today() {     // LocalDate.now()와 같은 값 (system 기본 time zone), 자정이 지나면 새로 구함
+        Today current = today;
+        if (System.currentTimeMillis() >= current.nextMidnightMillis) {
+            current = Today.now();
+            today = current;
+        }
+
+        return current.date;
+    }
+
+    private static class Today {
+
+        private final LocalDate date;
+
+        private final long nextMidnightMillis;
+
+        private Today(LocalDate date, long nextMidnightMillis) {
+            this.date = date;
+            this.nextMidnightMillis = nextMidnightMillis;
+        }
+
+        private static Today now() {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate date = LocalDate.now(zone);
+
+            return new Today(date, date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+public class PersonSummarySerializer extends JsonSerializer<PersonSummary> {     // 목록 API 응답 : Person과 같은 형식, age/birthdayToday는 조회 시 미리 계산한 값
+
+    @Override
+    public void serialize(PersonSummary value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        PersonSerializer.write(gen, value.getId(), value.getName(), value.getHobby(), value.getAddress(), value.getBirthday(), value.getJob(), value.getPhoneNumber(),
+                               value.isDeleted(), value.getAge(), value.isBirthdayToday());
+    }
+
+}
@@ -1,17 +1,38 @@
 package com.fastcampus.javaallinone.project3.mycontact.controller;
 
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.CursorSlice;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchItem;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchResult;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBulkResult;
 import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonImportResult;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
 import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonVersion;
+import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonExportService;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonImportService;
 import com.fastcampus.javaallinone.project3.mycontact.service.PersonService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @RequestMapping(value = "/api/person")
@@ -19,17 +40,91 @@ import java.util.List;
 @Slf4j
 public class PersonController {
 
+    private static final List<MediaType> PERSON_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR);     // JsonConfig의 converter 순서
+
     @Autowired
     private PersonService personService;
 
+    @Autowired
+    private PersonImportService personImportService;
+
+    @Autowired
+    private PersonExportService personExportService;
+
     @GetMapping
-    public Page<Person> getAll(@PageableDefault Pageable pageable) {    // @PageableDefault를 통해 기본 page 정보를 제공
+    public Page<PersonSummary> getAll(@PageableDefault(sort = "id") Pageable pageable) {    // @PageableDefault를 통해 기본 page 정보를 제공 (sort 파라미터가 없으면 id 순)
         return personService.getAll(pageable);
     }
 
+    @GetMapping(params = "count=false")     // 전체 수(totalElements, totalPages)가 필요 없으면 Slice로 응답 (ex. 무한 scroll)
+    public Slice<PersonSummary> getAllWithoutCount(@PageableDefault(sort = "id") Pageable pageable) {
+        return personService.getAllWithoutCount(pageable);
+    }
+
+    @GetMapping(params = {"after", "!count"})      // cursor 기반 조회 : 첫 page는 after 값을 비워서 요청하고, 이후에는 응답의 nextCursor를 전달 (count와 함께 오면 count 기준 handler 하나만 선택되도록 제외)
+    public CursorSlice<PersonSummary> getAllAfter(@RequestParam String after, @RequestParam(defaultValue = "10") int size) {
+        return CursorSlice.of(personService.getAllAfter(CursorSlice.decode(after), size), PersonSummary::getId);
+    }
+
+    @GetMapping("/suggest")    // 검색창 자동완성 : 이름 prefix(ex. 김민) 또는 초성(ex. ㄱㅁㅅ)
+    public List<PersonSuggestion> suggest(@RequestParam String q, @RequestParam(defaultValue = "10") int size) {
+        return personService.suggest(q, size);
+    }
+
+    @GetMapping("/search")     // hobby, address, job 전문 검색 (관련도 순)
+    public List<Person> search(@RequestParam String q, @RequestParam(defaultValue = "20") int size) {
+        return personService.search(q, size);
+    }
+
+    @GetMapping("/export")     // 전체 내보내기 : page 단위 조회 대신 response stream에 바로 씀 (format = ndjson(default), csv, smile, cbor)
+    public void exportPeople(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("text/csv");
+            personExportService.exportCsv(response.getOutputStream());
+        } else if ("smile".equalsIgnoreCase(format)) {
+            response.setContentType("application/x-jackson-smile");
+            personExportService.exportSmile(response.getOutputStream());
+        } else if ("cbor".equalsIgnoreCase(format)) {
+            response.setContentType("application/cbor-seq");
+            personExportService.exportCbor(response.getOutputStream());
+        } else {
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            personExportService.exportNdjson(response.getOutputStream());
+        }
+    }
+
     @GetMapping("/{id}")
-    public Person getPerson(@PathVariable Long id){
-        return personService.getPerson(id);
+    public Person getPerson(@PathVariable Long id, WebRequest request){
+        PersonVersion version = personService.getPersonVersion(id);
+        if (version == null) {
+            throw PersonNotFoundException.INSTANCE;     // 404
+        }
+
+        // If-None-Match/If-Modified-Since가 현재 ETag/Last-Modified와 같으면 entity를 조회하지 않고 304 반환 (ETag, Last-Modified header는 200 응답에도 추가됨)
+        LocalDate today = LocalDate.now();
+        if (request.checkNotModified(version.getETag(today, negotiate(request.getHeader(HttpHeaders.ACCEPT))), version.getLastModified(today))) {
+            return null;
+        }
+
+        Person person = personService.getPerson(id, version.getVersion());     // 단건 조회 cache에 같은 version이 있으면 사용
+        if (person == null) {       // version 조회 이후 삭제됨
+            throw PersonNotFoundException.INSTANCE;
+        }
+
+        return person;
+    }
+
+    @GetMapping("/by-phone/{number}")     // 발신자 조회 (ex. 010-1111-2222, +82-10-1111-2222) : 번호는 메모리 index, Person은 단건 조회 cache에서 찾음
+    public Person getPersonByPhoneNumber(@PathVariable String number) {
+        Long id = personService.getPersonIdByPhoneNumber(number);
+        Person person = id != null ? personService.getPerson(id) : null;
+        if (person == null) {
+            throw PersonNotFoundException.INSTANCE;     // 404
+        }
+
+        return person;
     }
 
     @PostMapping
@@ -38,14 +133,34 @@ public class PersonController {
         personService.put(personDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)    // 한 줄에 PersonDto json 하나씩
+    public PersonImportResult postPeopleAsNdjson(InputStream inputStream) throws IOException {
+        return personImportService.importNdjson(inputStream);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")    // 첫 줄은 header(name,hobby,address,birthday,job,phoneNumber)
+    public PersonImportResult postPeopleAsCsv(InputStream inputStream) throws IOException {
+        return personImportService.importCsv(inputStream);
+    }
+
+    @PutMapping("/batch")      // 여러 명을 각각 다른 값으로 수정 (ex. [{"id":1,"person":{"name":"martin","hobby":"reading"}}]), 한 transaction에서 처리하고 건별 결과 반환
+    public PersonBatchResult modifyPeopleInBatch(@RequestBody List<PersonBatchItem> items) {
+        return personService.modifyBatch(items);
+    }
+
     @PutMapping("/{id}")    // 전체 update
-    public void modifyPerson(@PathVariable Long id, @RequestBody PersonDto personDto) {
-        personService.modify(id, personDto);
+    public void modifyPerson(@PathVariable Long id, @RequestBody PersonDto personDto, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {     // If-Match : 조회 시 받은 ETag, 그 사이 변경되었으면 412
+        personService.modify(id, personDto, PersonVersion.versionsOf(ifMatch));
     }
 
     @PatchMapping("/{id}")  // 일부만 update
-    public void modifyPerson(@PathVariable Long id, String name) {
-        personService.modify(id, name);
+    public void modifyPerson(@PathVariable Long id, String name, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        personService.modify(id, name, PersonVersion.versionsOf(ifMatch));
+    }
+
+    @PatchMapping(params = "ids")      // 여러 명 일괄 update (ex. PATCH /api/person?ids=1,2,3), 이름은 변경 불가
+    public PersonBulkResult modifyPeople(@RequestParam List<Long> ids, @RequestBody PersonDto personDto) {
+        return personService.modifyAll(ids, personDto);
     }
 
     @DeleteMapping("/{id}")
@@ -53,13 +168,47 @@ public class PersonController {
         personService.delete(id);
     }
 
+    @DeleteMapping(params = "ids")     // 여러 명 일괄 삭제 (ex. DELETE /api/person?ids=1,2,3)
+    public PersonBulkResult deletePeople(@RequestParam List<Long> ids) {
+        return personService.deleteAll(ids);
+    }
+
 
 
     /************** birthday-friends **************/
     @GetMapping("/birthday-friends")
-    public List<Person> getBirthdayFriends() {
-        return personService.getBirthdayFriends();
+    public List<PersonSummary> getBirthdayFriends(@RequestParam(defaultValue = "1") int days) {    // days : 오늘부터 며칠 후까지 조회할지
+        return personService.getBirthdayFriends(days);
     }
     /**********************************************/
 
+    static MediaType negotiate(String accept) {    // 응답을 쓰기 전에 ETag를 정해야 하므로 converter 선택과 같은 기준(Accept와 호환되는 형식 중 q 값이 큰 순)으로 응답 형식을 미리 고름
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptableTypes;
+        try {
+            acceptableTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;      // 잘못된 Accept는 이후 converter 선택 단계에서 오류 처리
+        }
+
+        List<MediaType> compatibleTypes = new ArrayList<>();
+        for (MediaType acceptableType : acceptableTypes) {
+            for (MediaType mediaType : PERSON_MEDIA_TYPES) {
+                if (acceptableType.isCompatibleWith(mediaType)) {
+                    compatibleTypes.add(mediaType.copyQualityValue(acceptableType));
+                }
+            }
+        }
+
+        if (compatibleTypes.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(compatibleTypes);
+
+        return compatibleTypes.get(0).removeQualityValue();
+    }
+
 }
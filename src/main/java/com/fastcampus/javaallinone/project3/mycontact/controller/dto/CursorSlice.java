@@ -0,0 +1,50 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.InvalidCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {      // keyset pagination 응답 : 전체 count 없이 다음 page를 조회할 cursor만 제공
+
+    private List<T> content;
+
+    private int numberOfElements;
+
+    private boolean hasNext;
+
+    private String nextCursor;      // 마지막 element의 id를 인코딩한 값, 다음 page 요청 시 after 파라미터로 전달
+
+    public static <T> CursorSlice<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() ? encode(idExtractor.apply(content.get(content.size() - 1))) : null;
+
+        return new CursorSlice<>(content, slice.getNumberOfElements(), slice.hasNext(), nextCursor);
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {     // cursor가 비어 있으면 처음부터 조회
+        if (!StringUtils.hasText(cursor)) {
+            return 0L;
+        }
+
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException exception) {     // NumberFormatException 포함
+            throw InvalidCursorException.INSTANCE;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PersonBatchItem {      // 일괄 수정 요청의 한 건 : PUT /api/person/{id}의 id와 body
+
+    private Long id;
+
+    private PersonDto person;
+
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PersonBatchResult {
+
+    private long requested;
+
+    private long updated;
+
+    private long failed;
+
+    private List<ItemResult> results = new ArrayList<>();     // 요청 순서와 같은 순서의 건별 결과
+
+    public void succeed(Long id) {
+        this.requested++;
+        this.updated++;
+        this.results.add(ItemResult.of(id, Outcome.UPDATED, null));
+    }
+
+    public void fail(Long id, Outcome outcome, String message) {
+        this.requested++;
+        this.failed++;
+        this.results.add(ItemResult.of(id, outcome, message));
+    }
+
+    public enum Outcome {
+
+        UPDATED,
+
+        NOT_FOUND,                  // 존재하지 않거나 삭제됨
+
+        RENAME_NOT_PERMITTED,
+
+        DUPLICATE_PHONE_NUMBER      // 다른 Person(또는 같은 요청의 다른 건)이 사용 중인 번호
+
+    }
+
+    @Data
+    @AllArgsConstructor(staticName = "of")
+    public static class ItemResult {
+
+        private Long id;
+
+        private Outcome outcome;
+
+        private String message;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+public class PersonBulkResult {
+
+    private long requested;     // 중복을 제외한 요청 id 수
+
+    private long affected;      // 실제로 변경된 row 수 (존재하지 않거나 이미 삭제된 id는 제외)
+
+}
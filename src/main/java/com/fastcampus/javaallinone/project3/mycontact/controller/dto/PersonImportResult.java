@@ -0,0 +1,46 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PersonImportResult {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;    // 실패 row가 많아도 응답 크기가 일정하도록 상세 내역은 최대 1000건만 보관
+
+    private long total;
+
+    private long imported;
+
+    private long failed;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    public void succeed(int count) {
+        this.total += count;
+        this.imported += count;
+    }
+
+    public void fail(long line, String message) {
+        this.total++;
+        this.failed++;
+
+        if (this.errors.size() < MAX_REPORTED_ERRORS) {
+            this.errors.add(RowError.of(line, message));
+        }
+    }
+
+    @Data
+    @AllArgsConstructor(staticName = "of")
+    public static class RowError {
+
+        private long line;
+
+        private String message;
+
+    }
+
+}
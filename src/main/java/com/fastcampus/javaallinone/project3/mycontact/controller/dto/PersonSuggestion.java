@@ -0,0 +1,14 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+public class PersonSuggestion {
+
+    private Long id;
+
+    private String name;
+
+}
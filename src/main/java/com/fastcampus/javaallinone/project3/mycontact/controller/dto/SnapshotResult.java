@@ -0,0 +1,16 @@
+package com.fastcampus.javaallinone.project3.mycontact.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+public class SnapshotResult {
+
+    private String file;
+
+    private long bytes;
+
+    private long elapsedMillis;
+
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+@Entity
+@NoArgsConstructor
+@Data
+public class ArchivedPerson {      // 삭제 후 보관 기간이 지난 Person : person table(과 index)에는 삭제되지 않은 row만 남도록 별도 table로 이동 (service.PersonArchiveService)
+
+    @Id
+    private Long id;            // person table의 id를 그대로 사용
+
+    private String name;
+
+    private String hobby;
+
+    private String address;
+
+    @Embedded
+    private Birthday birthday;
+
+    private String job;
+
+    private String phoneNumber;
+
+    private Long version;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime deletedAt;
+
+    private LocalDateTime archivedAt;
+
+}
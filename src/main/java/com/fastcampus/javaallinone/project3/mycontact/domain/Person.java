@@ -2,8 +2,13 @@ package com.fastcampus.javaallinone.project3.mycontact.domain;
 
 import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
 import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PhoneNumberKey;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 import org.springframework.util.StringUtils;
 
@@ -11,6 +16,7 @@ import javax.persistence.*;
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor
@@ -18,10 +24,22 @@ import java.time.LocalDate;
 @RequiredArgsConstructor    // 필요한 인자(@NonNull 로 표시)를 가지고 생성하는 생성자
 @Data                       // @Getter, @Setter, @ToString, @EqualsAndHashCode(override하여 사용할 경우 오류가 발생할 수 있으므로 제공되는 어노테이션 사용) 모두 포함
 @Where(clause = "deleted = false")  // deleted 값을 포함한 query문 실행
+@Table(indexes = {     // 모든 조회에 deleted 조건이 붙으므로 deleted를 선두 column으로 사용
+        @Index(name = "idx_person_deleted_name", columnList = "deleted, name"),                           // findByName, findSummariesByName
+        @Index(name = "idx_person_deleted_birthday", columnList = "deleted, monthDayOfBirthday"),        // birthday-friends
+        @Index(name = "idx_person_deleted_month_of_birthday", columnList = "deleted, monthOfBirthday"),  // findByMonthOfBirthday
+        @Index(name = "idx_person_deleted_deleted_at", columnList = "deleted, deletedAt"),               // 보관 기간이 지난 삭제 row 조회 (PersonArchiveService)
+        @Index(name = "uk_person_phone_key", columnList = "phoneKey", unique = true)                     // 같은 전화번호는 한 명만 등록 (삭제 시 null로 변경하여 다시 등록 가능)
+})
 public class Person {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_id_generator")   // IDENTITY는 insert마다 id를 즉시 조회해야 해서 batch insert가 불가능하므로 sequence 사용
+    @GenericGenerator(name = "person_id_generator", strategy = "enhanced-sequence", parameters = {
+            @Parameter(name = "sequence_name", value = "person_seq"),
+            @Parameter(name = "increment_size", value = "50"),          // sequence 조회 1번으로 id 50개를 미리 확보
+            @Parameter(name = "optimizer", value = "pooled-lo")         // sequence 값을 확보한 구간의 시작 id로 사용
+    })
     private Long id;
 
     @NonNull
@@ -41,23 +59,38 @@ public class Person {
 
     private String phoneNumber;
 
+    @JsonIgnore
+    private Long phoneKey;      // 정규화한 전화번호 (domain.dto.PhoneNumberKey), 발신자 조회용 : phoneNumber를 변경하면 함께 변경됨
+
     @ColumnDefault("0")
     private boolean deleted;    // true = 데이터 삭제됨으로 표시(실제 삭제x), false = 삭제 안됨 표시(default)
 
+    @JsonIgnore
+    private LocalDateTime deletedAt;    // 삭제된 시각, 보관 기간이 지나면 archived_person table로 이동
+
+    @Version
+    @JsonIgnore     // 응답 body 대신 ETag header로 전달
+    @ColumnDefault("0")
+    private Long version;       // 수정될 때마다 증가, update 시 where version = ? 조건으로 동시 수정 감지
+
+    @UpdateTimestamp
+    @JsonIgnore     // 응답 body 대신 Last-Modified header로 전달
+    private LocalDateTime updatedAt;
+
     public void set(PersonDto personDto) {
-        if (!StringUtils.isEmpty(personDto.getHobby())) {
+        if (StringUtils.hasLength(personDto.getHobby())) {
             this.setHobby(personDto.getHobby());
         }
 
-        if (!StringUtils.isEmpty(personDto.getAddress())) {
+        if (StringUtils.hasLength(personDto.getAddress())) {
             this.setAddress(personDto.getAddress());
         }
 
-        if (!StringUtils.isEmpty(personDto.getJob())) {
+        if (StringUtils.hasLength(personDto.getJob())) {
             this.setJob(personDto.getJob());
         }
 
-        if (!StringUtils.isEmpty(personDto.getPhoneNumber())) {
+        if (StringUtils.hasLength(personDto.getPhoneNumber())) {
             this.setPhoneNumber(personDto.getPhoneNumber());
         }
 
@@ -66,16 +99,21 @@ public class Person {
         }
     }
 
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+        this.phoneKey = PhoneNumberKey.of(phoneNumber);
+    }
+
     public Integer getAge() {       // 현재 나이 계산
         if (this.birthday != null) {
-            return LocalDate.now().getYear() - this.birthday.getYearOfBirthday() + 1;
+            return this.birthday.getAge(LocalDate.now());
         } else {
             return null;
         }
     }
 
-    public boolean isBirthdayToday() {      // 오늘 생일인지 확인
-        return LocalDate.now().equals(LocalDate.of(this.birthday.getYearOfBirthday(), this.birthday.getMonthOfBirthday(), this.birthday.getDayOfBirthday()));
+    public boolean isBirthdayToday() {      // 오늘 생일인지 확인 : 연도와 무관하게 월/일만 비교하여 목록, 생일 조회와 같은 기준 사용 (birthday가 없으면 false)
+        return this.birthday != null && this.birthday.isBirthday(LocalDate.now());
     }
 
 }
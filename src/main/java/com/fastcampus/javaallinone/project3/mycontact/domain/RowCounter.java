@@ -0,0 +1,23 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RowCounter {      // table의 row 수를 저장/삭제 transaction에서 함께 증감하여 보관 (count(*) 대신 PK 조회 한 번)
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long rowCount;
+
+}
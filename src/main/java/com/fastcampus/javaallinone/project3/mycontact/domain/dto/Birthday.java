@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.Embeddable;
 import java.time.LocalDate;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Embeddable
 @AllArgsConstructor
@@ -21,14 +23,48 @@ public class Birthday {
 
     private Integer dayOfBirthday;
 
+    private Integer monthDayOfBirthday;     // 월 * 100 + 일 (ex. 8월 15일 = 815), 연도와 무관하게 생일을 index로 조회하기 위한 값
+
     private Birthday(LocalDate birthday) {   // 각 월과 일을 맞춤 ex)1월 : 31일, 2월 : 28일, ...
         this.yearOfBirthday = birthday.getYear();
         this.monthOfBirthday = birthday.getMonthValue();
         this.dayOfBirthday = birthday.getDayOfMonth();
+        this.monthDayOfBirthday = toMonthDay(birthday);
     }
 
     public static Birthday of(LocalDate birthday) {
         return new Birthday(birthday);
     }
 
+    public int getAge(LocalDate today) {     // 현재 나이 계산 (today는 호출하는 쪽에서 한 번만 구해서 전달)
+        return today.getYear() - this.yearOfBirthday + 1;
+    }
+
+    public boolean isBirthday(LocalDate today) {     // 연도와 무관하게 월/일만 비교 (2월 29일생은 윤년이 아닌 해에는 2월 28일)
+        if (this.monthOfBirthday == today.getMonthValue() && this.dayOfBirthday == today.getDayOfMonth()) {
+            return true;
+        }
+
+        return this.monthOfBirthday == 2 && this.dayOfBirthday == 29 && !today.isLeapYear() && today.getMonthValue() == 2 && today.getDayOfMonth() == 28;
+    }
+
+    public static Set<Integer> monthDaysBetween(LocalDate from, int days) {    // from부터 days일 후까지의 monthDay 값 (연말 -> 연초, 월말 -> 월초 포함)
+        Set<Integer> monthDays = new TreeSet<>();
+
+        for (int i = 0; i <= days; i++) {
+            LocalDate date = from.plusDays(i);
+            monthDays.add(toMonthDay(date));
+
+            if (!date.isLeapYear() && date.getMonthValue() == 2 && date.getDayOfMonth() == 28) {
+                monthDays.add(229);     // 2월 29일생은 윤년이 아닌 해에는 2월 28일을 생일로 봄
+            }
+        }
+
+        return monthDays;
+    }
+
+    private static int toMonthDay(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
 }
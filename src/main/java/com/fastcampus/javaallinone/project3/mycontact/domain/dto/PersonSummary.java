@@ -0,0 +1,52 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Getter
+@ToString
+public class PersonSummary {   // 목록 조회 전용 projection : entity로 조회하지 않으므로 영속성 context에 등록되지 않고 dirty checking용 snapshot도 만들지 않음
+
+    private final Long id;
+
+    private final String name;
+
+    private final String hobby;
+
+    private final String address;
+
+    private final Birthday birthday;
+
+    private final String job;
+
+    private final String phoneNumber;
+
+    private final boolean deleted;
+
+    private Integer age;
+
+    private boolean birthdayToday;
+
+    public PersonSummary(Long id, String name, String hobby, String address, Birthday birthday, String job, String phoneNumber, boolean deleted) {   // JPQL의 select new 에서 사용
+        this.id = id;
+        this.name = name;
+        this.hobby = hobby;
+        this.address = address;
+        this.birthday = birthday;
+        this.job = job;
+        this.phoneNumber = phoneNumber;
+        this.deleted = deleted;
+    }
+
+    public PersonSummary calculate(LocalDate today) {     // age, birthdayToday를 요청마다 한 번 구한 today 기준으로 미리 계산 (Person처럼 getter마다 LocalDate.now()를 호출하지 않음)
+        if (this.birthday != null) {
+            this.age = this.birthday.getAge(today);
+            this.birthdayToday = this.birthday.isBirthday(today);
+        }
+
+        return this;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.PreconditionFailedException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+public class PersonVersion {    // 조건부 요청(ETag, Last-Modified) 처리를 위해 entity 없이 version column만 조회
+
+    private Long version;
+
+    private LocalDateTime updatedAt;
+
+    public String getETag(LocalDate today) {   // age, birthdayToday는 날짜에 따라 바뀌므로 version과 날짜를 함께 사용
+        return getETag(today, MediaType.APPLICATION_JSON);
+    }
+
+    public String getETag(LocalDate today, MediaType mediaType) {      // 같은 version이라도 JSON, Smile, CBOR 응답은 byte가 다르므로 형식별로 다른 ETag (JSON은 기존 값 유지)
+        String format = MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) ? "" : "-" + mediaType.getSubtype();
+
+        return "\"" + this.version + "-" + today.toEpochDay() + format + "\"";
+    }
+
+    public long getLastModified(LocalDate today) {     // 수정되지 않았어도 날짜가 바뀌면 age, birthdayToday가 바뀔 수 있으므로 오늘 0시 이후로 맞춤
+        LocalDateTime startOfToday = today.atStartOfDay();
+        LocalDateTime lastModified = this.updatedAt != null && this.updatedAt.isAfter(startOfToday) ? this.updatedAt : startOfToday;
+
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static Set<Long> versionsOf(String ifMatch) {     // If-Match의 entity-tag 목록에서 version 추출 (없거나 * 이면 null = version 확인 안 함)
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        // If-Match는 strong 비교만 허용하므로 W/ tag는 어떤 version과도 일치하지 않음 (strong tag가 하나도 없으면 빈 Set = 412)
+        // version이 같으면 날짜, 응답 형식이 달라도 같은 상태이므로 opaque-tag의 version 부분만 비교
+        Set<Long> versions = new LinkedHashSet<>();
+
+        int index = 0;
+        while (index < ifMatch.length()) {
+            char c = ifMatch.charAt(index);
+            if (c == ',' || c == ' ' || c == '\t') {
+                index++;
+                continue;
+            }
+
+            boolean weak = ifMatch.startsWith("W/", index);
+            int open = weak ? index + 2 : index;
+            int close = open < ifMatch.length() && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw PreconditionFailedException.INSTANCE;     // entity-tag 형식이 아님
+            }
+
+            if (!weak) {
+                Long version = parseVersion(ifMatch.substring(open + 1, close));
+                if (version != null) {
+                    versions.add(version);
+                }
+            }
+
+            index = close + 1;
+        }
+
+        return versions;
+    }
+
+    private static Long parseVersion(String opaqueTag) {     // "version-epochDay[-format]"
+        int end = opaqueTag.indexOf('-');
+
+        try {
+            return Long.valueOf(end < 0 ? opaqueTag : opaqueTag.substring(0, end));
+        } catch (NumberFormatException e) {
+            return null;        // 이 서버가 만든 tag가 아니므로 일치하지 않음
+        }
+    }
+
+}
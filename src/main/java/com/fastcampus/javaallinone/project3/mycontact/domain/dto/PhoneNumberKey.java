@@ -0,0 +1,55 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+public final class PhoneNumberKey {     // 전화번호를 국가 번호를 포함한 숫자(E.164, 최대 15자리)로 정규화하여 long으로 변환 (ex. 010-1111-2222, +82 10 1111 2222 -> 821011112222)
+
+    static final String DEFAULT_COUNTRY_CODE = "82";     // 국가 번호 없이 입력된 번호는 국내 번호로 처리
+
+    private static final int MIN_DIGITS = 7;
+
+    private static final int MAX_DIGITS = 15;
+
+    private PhoneNumberKey() {
+    }
+
+    public static Long of(String phoneNumber) {     // 정규화할 수 없으면 null (숫자가 너무 적거나 많음)
+        if (phoneNumber == null) {
+            return null;
+        }
+
+        String text = phoneNumber.trim();
+        boolean international = text.startsWith("+");
+        if (international) {
+            text = text.replace("(0)", "");     // +82 (0)10-... 처럼 괄호로 표시한 국내 trunk prefix 제거
+        }
+
+        StringBuilder digits = new StringBuilder(MAX_DIGITS + DEFAULT_COUNTRY_CODE.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+
+        if (!international && startsWith(digits, "00")) {      // 국제전화 prefix 00 (ex. 00 82 10 ...)
+            digits.delete(0, 2);
+            international = true;
+        }
+
+        if (!international) {       // 국내 번호 : 앞의 trunk prefix 0을 국가 번호로 교체 (ex. 010 -> 8210, 02 -> 822)
+            digits.replace(0, startsWith(digits, "0") ? 1 : 0, DEFAULT_COUNTRY_CODE);
+        } else if (startsWith(digits, DEFAULT_COUNTRY_CODE + "0")) {      // +82 010-... 처럼 국가 번호 뒤에 0을 붙여 입력한 경우
+            digits.deleteCharAt(DEFAULT_COUNTRY_CODE.length());
+        }
+
+        if (digits.length() < MIN_DIGITS || digits.length() > MAX_DIGITS || digits.charAt(0) == '0') {
+            return null;
+        }
+
+        return Long.parseLong(digits.toString());
+    }
+
+    private static boolean startsWith(StringBuilder digits, String prefix) {
+        return digits.length() >= prefix.length() && digits.substring(0, prefix.length()).equals(prefix);
+    }
+
+}
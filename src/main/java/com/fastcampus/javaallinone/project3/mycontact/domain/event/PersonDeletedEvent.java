@@ -0,0 +1,10 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.event;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class PersonDeletedEvent {   // Person 삭제(deleted = true) 후 발행
+
+    Long id;
+
+}
@@ -0,0 +1,11 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.event;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class PersonSavedEvent {     // Person 등록/수정 후 발행, 검색용 index들이 commit 이후에 반영
+
+    Person person;
+
+}
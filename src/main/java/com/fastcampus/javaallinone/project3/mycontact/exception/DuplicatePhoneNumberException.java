@@ -0,0 +1,15 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception;
+
+public class DuplicatePhoneNumberException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "이미 등록된 전화번호입니다.";
+
+    public static final DuplicatePhoneNumberException INSTANCE = new DuplicatePhoneNumberException();
+
+    public DuplicatePhoneNumberException() {
+        super(MESSAGE);
+    }
+
+}
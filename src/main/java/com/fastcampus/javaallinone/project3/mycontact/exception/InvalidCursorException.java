@@ -0,0 +1,15 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception;
+
+public class InvalidCursorException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "잘못된 cursor 값입니다.";
+
+    public static final InvalidCursorException INSTANCE = new InvalidCursorException();
+
+    public InvalidCursorException() {
+        super(MESSAGE);
+    }
+
+}
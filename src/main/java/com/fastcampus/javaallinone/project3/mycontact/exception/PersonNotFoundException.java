@@ -1,16 +1,15 @@
 package com.fastcampus.javaallinone.project3.mycontact.exception;
 
-import lombok.extern.slf4j.Slf4j;
+public class PersonNotFoundException extends StacklessException {
 
-@Slf4j
-public class PersonNotFoundException extends RuntimeException{
+    private static final long serialVersionUID = 1L;
 
     private static final String MESSAGE = "Person Entity가 존재하지 않습니다.";
 
+    public static final PersonNotFoundException INSTANCE = new PersonNotFoundException();
+
     public PersonNotFoundException() {
         super(MESSAGE);
-
-        log.error(MESSAGE);
     }
 
 }
@@ -0,0 +1,15 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception;
+
+public class PreconditionFailedException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MESSAGE = "다른 요청에 의해 이미 변경되었습니다.";
+
+    public static final PreconditionFailedException INSTANCE = new PreconditionFailedException();
+
+    public PreconditionFailedException() {
+        super(MESSAGE);
+    }
+
+}
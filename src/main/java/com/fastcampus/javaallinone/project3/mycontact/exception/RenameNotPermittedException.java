@@ -1,16 +1,15 @@
 package com.fastcampus.javaallinone.project3.mycontact.exception;
 
-import lombok.extern.slf4j.Slf4j;
+public class RenameNotPermittedException extends StacklessException {
 
-@Slf4j
-public class RenameNotPermittedException extends RuntimeException{
+    private static final long serialVersionUID = 1L;
 
     private static final String MESSAGE = "이름 변경이 허용되지 않습니다.";
 
+    public static final RenameNotPermittedException INSTANCE = new RenameNotPermittedException();
+
     public RenameNotPermittedException() {
         super(MESSAGE);
-
-        log.error(MESSAGE);
     }
 
 }
@@ -0,0 +1,11 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception;
+
+public abstract class StacklessException extends RuntimeException {     // 예상된 오류(404, 409 등) 응답용 : GlobalExceptionHandler가 message만 사용하므로 stack trace를 만들지 않음
+
+    private static final long serialVersionUID = 1L;
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);     // stack trace, suppressed 없이 생성 : 상태가 없으므로 하위 class의 INSTANCE를 재사용할 수 있음
+    }
+
+}
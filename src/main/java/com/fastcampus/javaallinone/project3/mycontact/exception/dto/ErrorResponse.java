@@ -2,11 +2,11 @@ package com.fastcampus.javaallinone.project3.mycontact.exception.dto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 
-@Data
+@Value      // GlobalExceptionHandler에서 미리 만든 응답을 재사용하므로 불변
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ErrorResponse {
 
@@ -1,9 +1,15 @@
 package com.fastcampus.javaallinone.project3.mycontact.exception.handler;
 
+import com.fastcampus.javaallinone.project3.mycontact.exception.DuplicatePhoneNumberException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.InvalidCursorException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.PreconditionFailedException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.RenameNotPermittedException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,28 +20,99 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {   // Controller마다 적용하는 Exception처리를 Global하게 적용
 
+    // message가 고정된 오류는 응답 객체를 미리 만들어 재사용
+    private static final ErrorResponse RENAME_NOT_PERMITTED = ErrorResponse.of(HttpStatus.BAD_REQUEST, RenameNotPermittedException.INSTANCE.getMessage());
+
+    private static final ErrorResponse PERSON_NOT_FOUND = ErrorResponse.of(HttpStatus.NOT_FOUND, PersonNotFoundException.INSTANCE.getMessage());
+
+    private static final ErrorResponse INVALID_CURSOR = ErrorResponse.of(HttpStatus.BAD_REQUEST, InvalidCursorException.INSTANCE.getMessage());
+
+    private static final ErrorResponse PRECONDITION_FAILED = ErrorResponse.of(HttpStatus.PRECONDITION_FAILED, PreconditionFailedException.INSTANCE.getMessage());
+
+    private static final ErrorResponse DUPLICATE_PHONE_NUMBER = ErrorResponse.of(HttpStatus.CONFLICT, DuplicatePhoneNumberException.INSTANCE.getMessage());
+
+    private static final ErrorResponse CONFLICT = ErrorResponse.of(HttpStatus.CONFLICT, "다른 요청에 의해 이미 변경되었습니다.");
+
+    private static final ErrorResponse DATA_INTEGRITY_VIOLATION = ErrorResponse.of(HttpStatus.CONFLICT, "저장된 데이터와 충돌하여 저장할 수 없습니다.");
+
+    private static final String PHONE_KEY_INDEX = "UK_PERSON_PHONE_KEY";
+
+    @Autowired
+    private RateLimitedErrorLogger errorLogger;
+
     @ExceptionHandler(RenameNotPermittedException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleRenameNoPermittedException(RenameNotPermittedException exception) {
-        return ErrorResponse.of(HttpStatus.BAD_REQUEST, exception.getMessage());
+        errorLogger.log(exception, HttpStatus.BAD_REQUEST);
+
+        return RENAME_NOT_PERMITTED;
     }
 
     @ExceptionHandler(PersonNotFoundException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handlePersonNotFoundException(PersonNotFoundException exception) {
-        return ErrorResponse.of(HttpStatus.BAD_REQUEST, exception.getMessage());
+        errorLogger.log(exception, HttpStatus.NOT_FOUND);
+
+        return PERSON_NOT_FOUND;
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException exception) {
+        errorLogger.log(exception, HttpStatus.BAD_REQUEST);
+
+        return INVALID_CURSOR;
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)     // If-Match의 version과 현재 version이 다름
+    public ErrorResponse handlePreconditionFailedException(PreconditionFailedException exception) {
+        errorLogger.log(exception, HttpStatus.PRECONDITION_FAILED);
+
+        return PRECONDITION_FAILED;
+    }
+
+    @ExceptionHandler(DuplicatePhoneNumberException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)    // 정규화한 번호가 같은 Person이 이미 있음
+    public ErrorResponse handleDuplicatePhoneNumberException(DuplicatePhoneNumberException exception) {
+        errorLogger.log(exception, HttpStatus.CONFLICT);
+
+        return DUPLICATE_PHONE_NUMBER;
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)    // 조회와 저장 사이에 다른 transaction이 먼저 수정함 (@Version)
+    public ErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        errorLogger.log(exception, HttpStatus.CONFLICT);
+
+        return CONFLICT;
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)    // 사전 확인(메모리 index)을 통과했지만 저장 시 unique index에 걸림 (ex. 같은 번호를 동시에 저장)
+    public ErrorResponse handleDataIntegrityViolationException(DataIntegrityViolationException exception) {
+        errorLogger.log(exception, HttpStatus.CONFLICT);
+
+        String message = exception.getMostSpecificCause().getMessage();
+        if (message != null && message.toUpperCase().contains(PHONE_KEY_INDEX)) {
+            return DUPLICATE_PHONE_NUMBER;
+        }
+
+        return DATA_INTEGRITY_VIOLATION;
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException exception) {
+        errorLogger.log(exception, HttpStatus.BAD_REQUEST);
+
         return ErrorResponse.of(HttpStatus.BAD_REQUEST, exception.getBindingResult().getFieldError().getDefaultMessage());
     }
 
     @ExceptionHandler(RuntimeException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleRuntimeException(RuntimeException exception) {
-        log.error("서버 오류 : {}", exception.getMessage(), exception);
+        log.error("서버 오류 : {}", exception.getMessage(), exception);     // 예상하지 못한 오류는 stack trace와 함께 모두 남김
 
         return ErrorResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 서버 오류가 발생하였습니다.");
     }
@@ -0,0 +1,72 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class RateLimitedErrorLogger {     // 처리된 오류는 모두 counter로 세고, log는 exception type별로 interval마다 최대 1건만 남김 (그 사이 생략한 건수 포함)
+
+    private final MeterRegistry meterRegistry;
+
+    private final long intervalNanos;
+
+    private final Map<Class<?>, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedErrorLogger(MeterRegistry meterRegistry, @Value("${mycontact.error-log.interval-ms}") long intervalMillis) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    public void log(Exception exception, HttpStatus status) {
+        Window window = windows.computeIfAbsent(exception.getClass(), type -> new Window(counter(type, status)));
+        window.counter.increment();
+
+        long suppressed = window.tryAcquire(System.nanoTime(), intervalNanos);
+        if (suppressed >= 0) {
+            log.warn("{} {} : {} (이전 log 이후 생략 {}건)", status.value(), exception.getClass().getSimpleName(), exception.getMessage(), suppressed);
+        }
+    }
+
+    private Counter counter(Class<?> type, HttpStatus status) {
+        return Counter.builder("mycontact.errors")
+                      .tag("exception", type.getSimpleName())
+                      .tag("status", String.valueOf(status.value()))
+                      .register(meterRegistry);
+    }
+
+    static class Window {
+
+        private final Counter counter;
+
+        private final AtomicLong nextLogNanos;
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(Counter counter) {
+            this.counter = counter;
+            this.nextLogNanos = new AtomicLong(System.nanoTime());
+        }
+
+        long tryAcquire(long now, long intervalNanos) {      // log를 남길 차례이면 생략했던 건수, 아니면 -1
+            long next = nextLogNanos.get();
+            if (now - next >= 0 && nextLogNanos.compareAndSet(next, now + intervalNanos)) {
+                return suppressed.getAndSet(0);
+            }
+
+            suppressed.incrementAndGet();
+            return -1;
+        }
+
+    }
+
+}
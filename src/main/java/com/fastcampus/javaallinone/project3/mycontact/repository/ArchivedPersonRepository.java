@@ -0,0 +1,20 @@
+package com.fastcampus.javaallinone.project3.mycontact.repository;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.ArchivedPerson;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArchivedPersonRepository extends JpaRepository<ArchivedPerson, Long> {
+
+    // person table의 삭제 row를 entity로 읽지 않고 insert ... select 한 번으로 복사 (Person의 @Where가 적용되지 않도록 native query 사용)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into archived_person (id, name, hobby, address, year_of_birthday, month_of_birthday, day_of_birthday, month_day_of_birthday, job, phone_number, version, updated_at, deleted_at, archived_at) " +
+                   "select id, name, hobby, address, year_of_birthday, month_of_birthday, day_of_birthday, month_day_of_birthday, job, phone_number, version, updated_at, deleted_at, current_timestamp " +
+                   "from person where id in :ids and deleted = true", nativeQuery = true)
+    int copyPeopleDeletedByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -1,27 +1,95 @@
 package com.fastcampus.javaallinone.project3.mycontact.repository;
 
 import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
     List<Person> findByName(String name);   // where person = ?
 
-    @Query(value = "select person from Person person where person.birthday.monthOfBirthday = :monthOfBirthday")   // ?1 = int monthOfBirthday, ?2 = int dayOfBirthday / @Param("변수명")으로 가져온 값을 :변수명 에 대입 / nativeQuery
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonVersion(person.version, person.updatedAt) from Person person where person.id = :id")
+    Optional<PersonVersion> findVersionById(@Param("id") Long id);     // 304 응답 여부만 판단할 때 entity를 만들지 않고 version만 조회
+
+    // 목록 조회용 projection : 필요한 column만 DTO로 바로 생성하므로 entity hydration, snapshot 비용이 없음
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary(person.id, person.name, person.hobby, person.address, person.birthday, person.job, person.phoneNumber, person.deleted) from Person person")
+    List<PersonSummary> findSummaries(Pageable pageable);      // count query 없이 page 내용만 조회 (전체 수는 service.PersonCountService), 정렬은 Pageable의 sort (기본값 id는 controller의 @PageableDefault)
+
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary(person.id, person.name, person.hobby, person.address, person.birthday, person.job, person.phoneNumber, person.deleted) from Person person")
+    Slice<PersonSummary> findSummarySlice(Pageable pageable);     // size + 1건만 조회, 정렬은 Pageable의 sort
+
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary(person.id, person.name, person.hobby, person.address, person.birthday, person.job, person.phoneNumber, person.deleted) from Person person where person.name = :name order by person.id")
+    List<PersonSummary> findSummariesByName(@Param("name") String name);
+
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary(person.id, person.name, person.hobby, person.address, person.birthday, person.job, person.phoneNumber, person.deleted) from Person person where person.id > :id order by person.id")
+    Slice<PersonSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Pageable pageable);     // where id > ? (PK index seek) / Slice는 count query 없이 size + 1건만 조회
+
+    @Query(value = "select person from Person person where person.birthday.monthOfBirthday = :monthOfBirthday order by person.id")   // ?1 = int monthOfBirthday, ?2 = int dayOfBirthday / @Param("변수명")으로 가져온 값을 :변수명 에 대입 / nativeQuery
     List<Person> findByMonthOfBirthday(@Param("monthOfBirthday") int monthOfBirthday);
 
-    @Query(value = "select * from Person person where person.deleted = true", nativeQuery = true)   // nativeQuery : 작성된 query문으로 실행
+    // nativeQuery : 작성된 query문으로 실행 / 아직 person에 남아있는 삭제 row와 archived_person으로 이동한 row를 함께 조회
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))      // archived_person row는 person table에 없으므로 수정되지 않도록 read-only로 조회
+    @Query(value = "select person.id, person.name, person.hobby, person.address, person.year_of_birthday, person.month_of_birthday, person.day_of_birthday, person.month_day_of_birthday, " +
+                   "person.job, person.phone_number, person.phone_key, person.deleted, person.deleted_at, person.version, person.updated_at from person where person.deleted = true " +
+                   "union all " +
+                   "select archived.id, archived.name, archived.hobby, archived.address, archived.year_of_birthday, archived.month_of_birthday, archived.day_of_birthday, archived.month_day_of_birthday, " +
+                   "archived.job, archived.phone_number, null, true, archived.deleted_at, archived.version, archived.updated_at from archived_person archived " +
+                   "order by id", nativeQuery = true)
     List<Person> findPeopleDeleted();
 
+    @Query(value = "select person.id from person where person.deleted = true and person.deleted_at < :deletedBefore order by person.id limit :size", nativeQuery = true)   // (deleted, deleted_at) index 사용
+    List<Long> findIdsDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("size") int size);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from person where id in :ids and deleted = true", nativeQuery = true)     // @Where가 적용되지 않는 native query로 삭제 row만 제거
+    int removePeopleDeletedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 일괄 수정 : 값이 null인 field는 기존 값 유지 / 영속성 context를 우회하므로 실행 전 flush, 실행 후 clear
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Person person set person.hobby = coalesce(:hobby, person.hobby), person.address = coalesce(:address, person.address), " +
+                   "person.job = coalesce(:job, person.job), person.phoneNumber = coalesce(:phoneNumber, person.phoneNumber), " +
+                   "person.phoneKey = case when :phoneNumber is null then person.phoneKey else :phoneKey end, " +     // phoneNumber를 변경하면 정규화할 수 없는 번호(phoneKey = null)여도 함께 변경
+                   "person.birthday.yearOfBirthday = coalesce(:yearOfBirthday, person.birthday.yearOfBirthday), " +
+                   "person.birthday.monthOfBirthday = coalesce(:monthOfBirthday, person.birthday.monthOfBirthday), " +
+                   "person.birthday.dayOfBirthday = coalesce(:dayOfBirthday, person.birthday.dayOfBirthday), " +
+                   "person.birthday.monthDayOfBirthday = coalesce(:monthDayOfBirthday, person.birthday.monthDayOfBirthday), " +
+                   "person.version = person.version + 1, person.updatedAt = current_timestamp " +     // bulk update는 @Version, @UpdateTimestamp가 적용되지 않으므로 직접 변경
+                   "where person.id in :ids and person.deleted = false")
+    int updateAllByIdIn(@Param("ids") Collection<Long> ids, @Param("hobby") String hobby, @Param("address") String address, @Param("job") String job, @Param("phoneNumber") String phoneNumber, @Param("phoneKey") Long phoneKey,
+                        @Param("yearOfBirthday") Integer yearOfBirthday, @Param("monthOfBirthday") Integer monthOfBirthday, @Param("dayOfBirthday") Integer dayOfBirthday, @Param("monthDayOfBirthday") Integer monthDayOfBirthday);
+
+    // 일괄 삭제 : id마다 조회 후 save하지 않고 update 한 번으로 deleted 처리 (bulk update에는 @Where가 적용되지 않으므로 deleted 조건을 직접 추가)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Person person set person.deleted = true, person.deletedAt = current_timestamp, person.phoneKey = null, person.version = person.version + 1, person.updatedAt = current_timestamp where person.id in :ids and person.deleted = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"),  // 전체를 한 번에 가져오지 않고 cursor로 1000건씩 읽음
+                 @QueryHint(name = HINT_READONLY, value = "true")})   // dirty checking용 snapshot을 만들지 않음
+    @Query(value = "select person from Person person order by person.id")   // Stream은 transaction 안에서 사용 후 close 해야 함
+    Stream<Person> streamAll();
+
 
 
     /************** birthday-friends **************/
-    @Query(value = "select person from Person person where person.birthday.monthOfBirthday = :monthOfBirthday and (person.birthday.dayOfBirthday between :dayOfBirthday and :dayOfBirthday + 1)")
-    List<Person> findBirthdayBetweenTodayAndTomorrow(@Param("monthOfBirthday") int monthOfBirthday, @Param("dayOfBirthday") int dayOfBirthday);
+    @Query(value = "select new com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary(person.id, person.name, person.hobby, person.address, person.birthday, person.job, person.phoneNumber, person.deleted) from Person person where person.birthday.monthDayOfBirthday in :monthDays order by person.id")  // (deleted, month_day_of_birthday) index 사용
+    List<PersonSummary> findSummariesByMonthDayOfBirthdayIn(@Param("monthDays") Collection<Integer> monthDays);
     /**********************************************/
 
 }
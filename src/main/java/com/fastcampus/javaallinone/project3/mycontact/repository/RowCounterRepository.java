@@ -0,0 +1,26 @@
+package com.fastcampus.javaallinone.project3.mycontact.repository;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.RowCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface RowCounterRepository extends JpaRepository<RowCounter, String> {
+
+    @Query(value = "select counter.rowCount from RowCounter counter where counter.name = :name")
+    Optional<Long> findRowCountByName(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)      // select ... for update : 보정하는 동안 다른 transaction의 증감을 막음
+    @Query(value = "select counter from RowCounter counter where counter.name = :name")
+    Optional<RowCounter> findByNameForUpdate(@Param("name") String name);
+
+    @Modifying     // 영속성 context를 비우지 않음 (같은 transaction에서 저장한 Person을 이후에도 사용)
+    @Query(value = "update RowCounter counter set counter.rowCount = counter.rowCount + :delta where counter.name = :name")
+    int add(@Param("name") String name, @Param("delta") long delta);
+
+}
@@ -0,0 +1,67 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.repository.ArchivedPersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+public class PersonArchiveService {    // 보관 기간이 지난 삭제 row를 archived_person으로 이동 : batch마다 transaction을 나누어 한 번에 잠그는 row 수와 시간을 제한
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ArchivedPersonRepository archivedPersonRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${mycontact.archive.retention-days}")
+    private int retentionDays;
+
+    @Value("${mycontact.archive.batch-size}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${mycontact.archive.initial-delay-ms}", fixedDelayString = "${mycontact.archive.interval-ms}")
+    public void archiveExpired() {
+        int archived = archive(LocalDateTime.now().minusDays(retentionDays));
+
+        if (archived > 0) {
+            log.info("삭제 후 {}일이 지난 person {}건을 archived_person으로 이동", retentionDays, archived);
+        }
+    }
+
+    public int archive(LocalDateTime deletedBefore) {     // deletedBefore 이전에 삭제된 row를 모두 이동하고 이동한 수를 반환
+        int archived = 0;
+
+        while (true) {
+            int moved = transactionTemplate.execute(status -> archiveBatch(deletedBefore));
+            archived += moved;
+
+            if (moved < batchSize) {
+                return archived;
+            }
+        }
+    }
+
+    private int archiveBatch(LocalDateTime deletedBefore) {     // 복사와 삭제를 같은 transaction에서 처리하여 중간에 실패해도 row가 두 table에 동시에 있거나 사라지지 않음
+        List<Long> ids = personRepository.findIdsDeletedBefore(deletedBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedPersonRepository.copyPeopleDeletedByIdIn(ids);
+
+        return personRepository.removePeopleDeletedByIdIn(ids);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.RowCounter;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.repository.RowCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class PersonCountService {      // 삭제되지 않은 Person 수 : 목록 조회마다 count(*)를 실행하지 않도록 저장/삭제 시 counter row를 같은 transaction에서 증감
+
+    static final String COUNTER_NAME = "person";
+
+    @Autowired
+    private RowCounterRepository rowCounterRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Transactional
+    public void add(long delta) {      // 호출한 transaction에 참여하므로 rollback되면 증감도 취소됨 (counter row가 아직 없으면 다음 보정 때 생성)
+        if (delta != 0) {
+            rowCounterRepository.add(COUNTER_NAME, delta);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long count() {
+        return rowCounterRepository.findRowCountByName(COUNTER_NAME).orElseGet(personRepository::count);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${mycontact.person-count.reconcile-interval-ms}")
+    @Transactional
+    public long reconcile() {      // counter를 실제 count(*)로 보정하고 차이를 반환 (Person을 service를 거치지 않고 저장/삭제한 경우 등)
+        // counter row를 먼저 잠근 뒤 count : 증감 후 commit 전인 transaction이 있으면 끝날 때까지 기다리므로 보정 값에서 누락되지 않음
+        Optional<RowCounter> counter = rowCounterRepository.findByNameForUpdate(COUNTER_NAME);
+        long actual = personRepository.count();
+
+        if (!counter.isPresent()) {
+            rowCounterRepository.save(new RowCounter(COUNTER_NAME, actual));
+
+            return 0;
+        }
+
+        long drift = actual - counter.get().getRowCount();
+        if (drift != 0) {
+            counter.get().setRowCount(actual);
+
+            log.warn("person counter를 {}건 보정 ({})", drift, actual);
+        }
+
+        return drift;
+    }
+
+}
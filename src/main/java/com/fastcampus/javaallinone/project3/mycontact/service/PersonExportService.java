@@ -0,0 +1,131 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class PersonExportService {     // 전체 내보내기 : cursor로 읽은 Person을 바로 response stream에 쓰고 persistence context에서 제거하므로 row 수와 무관하게 메모리 사용량이 일정함
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+                                                         .addColumn("id")
+                                                         .addColumn("name")
+                                                         .addColumn("hobby")
+                                                         .addColumn("address")
+                                                         .addColumn("birthday")
+                                                         .addColumn("job")
+                                                         .addColumn("phoneNumber")
+                                                         .setUseHeader(true)
+                                                         .build();
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    @Transactional(readOnly = true)
+    public void exportNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);      // 한 줄에 json 하나씩 쓰기 위해 기본 구분자(공백) 대신 줄바꿈을 직접 씀
+
+            export(generator, true);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream outputStream) throws IOException {
+        try (CsvGenerator generator = csvMapper.getFactory().createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setSchema(CSV_SCHEMA);
+
+            export(generator, false);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportSmile(OutputStream outputStream) throws IOException {      // 구분자 없이 root value를 이어서 씀 (header는 stream 앞에 한 번만)
+        exportBinary(smileMapper, outputStream);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCbor(OutputStream outputStream) throws IOException {       // CBOR sequence (RFC 8742) : CBOR 값을 구분자 없이 이어서 씀
+        exportBinary(cborMapper, outputStream);
+    }
+
+    private void exportBinary(ObjectMapper binaryMapper, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = binaryMapper.getFactory().createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+            export(generator, false);
+        }
+    }
+
+    private void export(JsonGenerator generator, boolean newLinePerRow) throws IOException {
+        try (Stream<Person> people = personRepository.streamAll()) {
+            Iterator<Person> iterator = people.iterator();
+
+            while (iterator.hasNext()) {
+                Person person = iterator.next();
+
+                writePerson(generator, person);
+                if (newLinePerRow) {
+                    generator.writeRaw('\n');
+                }
+
+                entityManager.detach(person);
+            }
+        }
+    }
+
+    private void writePerson(JsonGenerator generator, Person person) throws IOException {   // 모든 형식 공통으로 계산 필드(age 등)를 제외한 저장 값만 씀
+        generator.writeStartObject();
+        generator.writeNumberField("id", person.getId());
+        generator.writeStringField("name", person.getName());
+        generator.writeStringField("hobby", person.getHobby());
+        generator.writeStringField("address", person.getAddress());
+        generator.writeStringField("birthday", toIsoDate(person.getBirthday()));
+        generator.writeStringField("job", person.getJob());
+        generator.writeStringField("phoneNumber", person.getPhoneNumber());
+        generator.writeEndObject();
+    }
+
+    private static String toIsoDate(Birthday birthday) {
+        if (birthday == null || birthday.getYearOfBirthday() == null) {
+            return null;
+        }
+
+        return LocalDate.of(birthday.getYearOfBirthday(), birthday.getMonthOfBirthday(), birthday.getDayOfBirthday()).toString();
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonImportResult;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class PersonImportService {     // 대량 등록 : body를 한 row씩 읽어 chunk 단위 transaction으로 batch insert하므로 업로드 크기와 무관하게 메모리 사용량이 일정함
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final CsvMapper csvMapper = createCsvMapper();
+
+    public PersonImportResult importNdjson(InputStream inputStream) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(PersonDto.class);
+
+        return importLines(toReader(inputStream), 0, reader::readValue);
+    }
+
+    public PersonImportResult importCsv(InputStream inputStream) throws IOException {
+        PushbackInputStream body = new PushbackInputStream(inputStream);
+        int first = body.read();
+        if (first == -1) {      // 빈 body는 header도 없으므로 CsvParser가 오류를 내기 전에 처리
+            return new PersonImportResult();
+        }
+        body.unread(first);
+
+        // 첫 줄은 column 이름(name,hobby,address,birthday,job,phoneNumber 중 일부), 따옴표 안의 쉼표, 줄바꿈도 CsvParser가 처리
+        ObjectReader reader = csvMapper.readerFor(PersonDto.class).with(CsvSchema.emptySchema().withHeader());
+
+        PersonImportResult result = new PersonImportResult();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (MappingIterator<PersonDto> rows = reader.readValues(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            while (rows.hasNextValue()) {
+                long lineNumber = rows.getCurrentLocation().getLineNr();      // row가 시작하는 줄 (여러 줄에 걸친 값이 있어도 시작 줄로 보고)
+
+                PersonDto personDto;
+                try {
+                    personDto = rows.nextValue();
+                } catch (JsonProcessingException exception) {     // 값 변환 실패는 해당 row만 실패 처리하고 다음 row부터 계속 읽음
+                    result.fail(lineNumber, exception.getOriginalMessage());
+                    continue;
+                }
+
+                add(new Row(lineNumber, personDto), chunk, result);
+            }
+        }
+
+        write(chunk, result);
+
+        return result;
+    }
+
+    private PersonImportResult importLines(BufferedReader lines, long lineNumber, RowParser parser) throws IOException {
+        PersonImportResult result = new PersonImportResult();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            PersonDto personDto;
+            try {
+                personDto = parser.parse(line);
+            } catch (JsonProcessingException exception) {
+                result.fail(lineNumber, exception.getOriginalMessage());
+                continue;
+            }
+
+            add(new Row(lineNumber, personDto), chunk, result);
+        }
+
+        write(chunk, result);
+
+        return result;
+    }
+
+    private void add(Row row, List<Row> chunk, PersonImportResult result) {
+        Set<ConstraintViolation<PersonDto>> violations = validator.validate(row.personDto);
+        if (!violations.isEmpty()) {
+            result.fail(row.lineNumber, violations.iterator().next().getMessage());
+            return;
+        }
+
+        chunk.add(row);
+
+        if (chunk.size() == CHUNK_SIZE) {
+            write(chunk, result);
+            chunk.clear();
+        }
+    }
+
+    private void write(List<Row> chunk, PersonImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            result.succeed(chunk.size());
+        } catch (RuntimeException exception) {
+            // chunk 전체가 실패하면 row 단위로 다시 저장하여 실패한 row만 보고하고 나머지는 계속 진행
+            log.warn("chunk 저장 실패, row 단위로 재시도 : {}", NestedExceptionUtils.getMostSpecificCause(exception).getMessage());
+
+            for (Row row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(Collections.singletonList(row)));
+                    result.succeed(1);
+                } catch (RuntimeException rowException) {
+                    result.fail(row.lineNumber, NestedExceptionUtils.getMostSpecificCause(rowException).getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        personService.putAll(rows.stream()
+                                 .map(row -> row.personDto)
+                                 .collect(Collectors.toList()));
+
+        personRepository.flush();
+        entityManager.clear();      // 저장이 끝난 chunk의 entity를 persistence context에서 제거하여 메모리 사용량을 일정하게 유지
+    }
+
+    private static BufferedReader toReader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    private static CsvMapper createCsvMapper() {
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.registerModule(new JavaTimeModule());
+        csvMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        csvMapper.configure(CsvParser.Feature.SKIP_EMPTY_LINES, true);
+        csvMapper.configure(CsvParser.Feature.TRIM_SPACES, true);      // header의 "name, address"처럼 쉼표 뒤 공백 허용
+
+        return csvMapper;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        PersonDto parse(String line) throws IOException;
+    }
+
+    @AllArgsConstructor
+    private static class Row {
+
+        private final long lineNumber;
+
+        private final PersonDto personDto;
+
+    }
+
+}
@@ -1,86 +1,429 @@
 package com.fastcampus.javaallinone.project3.mycontact.service;
 
+import com.fastcampus.javaallinone.project3.mycontact.configuration.CacheConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchItem;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchResult;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBulkResult;
 import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
 import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonVersion;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PhoneNumberKey;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonDeletedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonSavedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.exception.DuplicatePhoneNumberException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.PreconditionFailedException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.RenameNotPermittedException;
 import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.NameSuggestIndex;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.PersonSearchIndex;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.PhoneNumberIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class PersonService {
 
+    private static final int MAX_SLICE_SIZE = 2000;     // PageableDefault의 최대 page size와 동일
+
+    private static final int MAX_BIRTHDAY_DAYS = 365;
+
+    private static final int MAX_SUGGESTION_SIZE = 50;
+
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    private static final int BULK_CHUNK_SIZE = 1000;    // update 한 번에 넣을 IN 절 id 수
+
     @Autowired
     private PersonRepository personRepository;
 
-    public Page<Person> getAll(Pageable pageable) {
-        return personRepository.findAll(pageable);
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;      // 저장/삭제 event로 검색용 index 갱신 (service.index.PersonIndexSynchronizer)
+
+    @Autowired
+    private CacheManager cacheManager;     // 일괄 수정/삭제는 id가 여러 개이므로 @CacheEvict 대신 직접 evict
+
+    @PersistenceContext
+    private EntityManager entityManager;     // 일괄 수정 시 chunk마다 persistence context를 비움
+
+    @Autowired
+    private PersonCountService personCountService;     // 목록 조회의 전체 수
+
+    @Autowired
+    private NameSuggestIndex nameSuggestIndex;
+
+    @Autowired
+    private PersonSearchIndex personSearchIndex;
+
+    @Autowired
+    private PhoneNumberIndex phoneNumberIndex;
+
+    @Transactional(readOnly = true)     // readOnly : flush를 하지 않고 session을 read-only로 사용
+    public Page<PersonSummary> getAll(Pageable pageable) {     // 전체 수는 count(*) 대신 counter로 구성 (마지막 page이면 counter도 조회하지 않음)
+        return PageableExecutionUtils.getPage(calculate(personRepository.findSummaries(pageable)), pageable, personCountService::count);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PersonSummary> getAllWithoutCount(Pageable pageable) {     // 전체 수가 필요 없는 client용 : size + 1건만 조회하여 다음 page 여부만 확인
+        LocalDate today = LocalDate.now();
+
+        return personRepository.findSummarySlice(pageable).map(person -> person.calculate(today));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PersonSummary> getAllAfter(Long id, int size) {     // keyset pagination : offset 대신 마지막으로 조회한 id 이후부터 조회하므로 page가 깊어져도 비용이 일정함
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SLICE_SIZE));     // 정렬은 query의 order by id (다음 cursor가 유효하도록)
+        LocalDate today = LocalDate.now();
+
+        return personRepository.findSummariesByIdGreaterThan(id, pageable).map(person -> person.calculate(today));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PersonSummary> getPeopleByName(String name) {
+        return calculate(personRepository.findSummariesByName(name));
+    }
+
+    public List<PersonSuggestion> suggest(String query, int size) {    // 이름 prefix 또는 초성으로 자동완성
+        return nameSuggestIndex.suggest(query, Math.min(Math.max(size, 1), MAX_SUGGESTION_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Person> search(String query, int size) {     // hobby, address, job 전문 검색 (index에서 순위를 정하고 해당 id만 조회)
+        List<Long> ids = personSearchIndex.search(query, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Person> people = personRepository.findAllById(ids)
+                                                   .stream()
+                                                   .collect(Collectors.toMap(Person::getId, Function.identity()));
+
+        return ids.stream()
+                  .map(people::get)
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.toList());
     }
 
-    public List<Person> getPeopleByName(String name) {
-        return personRepository.findByName(name);
+    public Long getPersonIdByPhoneNumber(String phoneNumber) {     // 발신자 조회 : DB 조회 없이 메모리 index에서 id만 찾음 (없으면 null)
+        Long phoneKey = PhoneNumberKey.of(phoneNumber);
+
+        return phoneKey != null ? phoneNumberIndex.find(phoneKey) : null;
     }
 
+    @Cacheable(cacheNames = CacheConfig.PERSON_CACHE, unless = "#result == null")
     @Transactional(readOnly = true)
     public Person getPerson(Long id) {
         return personRepository.findById(id).orElse(null);
     }
 
+    @Transactional(readOnly = true)
+    public PersonVersion getPersonVersion(Long id) {
+        return personRepository.findVersionById(id).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public Person getPerson(Long id, Long version) {     // 조건부 조회용 : cache의 entity가 조회한 version과 다르면 다시 조회하여 교체
+        // 조회 transaction의 cache put은 commit 이후에 반영되므로 다른 transaction의 수정 후 evict보다 늦게 들어가 이전 version이 남을 수 있음
+        Cache cache = cacheManager.getCache(CacheConfig.PERSON_CACHE);
+        Person cached = cache.get(id, Person.class);
+        if (cached != null && Objects.equals(cached.getVersion(), version)) {
+            return cached;
+        }
+
+        Person person = personRepository.findById(id).orElse(null);
+        if (person != null) {
+            cache.put(id, person);
+        } else {
+            cache.evict(id);
+        }
+
+        return person;
+    }
+
     @Transactional
     public void put(PersonDto personDto) {
-        Person person = new Person();
-        person.set(personDto);
-        person.setName(personDto.getName());
+        Person person = toPerson(personDto);
+        checkPhoneNumberNotTaken(person.getPhoneKey(), null);
 
         personRepository.save(person);
+        personCountService.add(1);
+
+        eventPublisher.publishEvent(PersonSavedEvent.of(person));
+    }
+
+    @Transactional
+    public void putAll(List<PersonDto> personDtos) {    // sequence id를 사용하므로 hibernate.jdbc.batch_size 단위로 batch insert됨
+        List<Person> people = personDtos.stream()
+                                        .map(this::toPerson)
+                                        .collect(Collectors.toList());
+
+        Set<Long> phoneKeys = new HashSet<>();
+        for (Person person : people) {
+            if (person.getPhoneKey() != null && !phoneKeys.add(person.getPhoneKey())) {    // 요청 안에서 중복
+                throw DuplicatePhoneNumberException.INSTANCE;
+            }
+
+            checkPhoneNumberNotTaken(person.getPhoneKey(), null);
+        }
+
+        personRepository.saveAll(people);
+        personCountService.add(people.size());
+
+        people.forEach(person -> eventPublisher.publishEvent(PersonSavedEvent.of(person)));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PERSON_CACHE, key = "#id")
     @Transactional
-    public void modify(Long id, PersonDto personDto) {
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+    public void modify(Long id, PersonDto personDto, Set<Long> versions) {     // versions : If-Match로 전달받은 version 목록 (null이면 확인하지 않음)
+        Person person = getPersonIfVersionMatches(id, versions);
 
         if (!person.getName().equals(personDto.getName())) {
-            throw new RenameNotPermittedException();
+            throw RenameNotPermittedException.INSTANCE;
         }
 
         person.set(personDto);
+        checkPhoneNumberNotTaken(person.getPhoneKey(), id);
 
         personRepository.save(person);
+
+        eventPublisher.publishEvent(PersonSavedEvent.of(person));
     }
 
     @Transactional
-    public void modify(Long id, String name) {
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+    public PersonBatchResult modifyBatch(List<PersonBatchItem> items) {     // 여러 명을 각각 다른 값으로 수정 : chunk마다 IN 조회 한 번 + flush 시 JDBC batch update (hibernate.jdbc.batch_size)
+        PersonBatchResult result = new PersonBatchResult();
+        Map<Long, Long> claimedPhoneKeys = new HashMap<>();     // 요청 안에서 이미 사용한 번호 -> id
+        List<Person> updated = new ArrayList<>();
+
+        for (List<PersonBatchItem> chunk : chunk(items)) {
+            Map<Long, Person> people = personRepository.findAllById(distinct(chunk.stream().map(PersonBatchItem::getId).collect(Collectors.toList())))
+                                                       .stream()
+                                                       .collect(Collectors.toMap(Person::getId, Function.identity()));
+
+            for (PersonBatchItem item : chunk) {
+                Person person = item.getId() != null ? people.get(item.getId()) : null;
+                PersonDto personDto = item.getPerson();
+
+                if (person == null || personDto == null) {
+                    result.fail(item.getId(), PersonBatchResult.Outcome.NOT_FOUND, PersonNotFoundException.INSTANCE.getMessage());
+                } else if (!person.getName().equals(personDto.getName())) {     // modify(Long, PersonDto)와 같은 규칙
+                    result.fail(item.getId(), PersonBatchResult.Outcome.RENAME_NOT_PERMITTED, RenameNotPermittedException.INSTANCE.getMessage());
+                } else if (isPhoneNumberTaken(PhoneNumberKey.of(emptyToNull(personDto.getPhoneNumber())), person.getId(), claimedPhoneKeys)) {
+                    result.fail(item.getId(), PersonBatchResult.Outcome.DUPLICATE_PHONE_NUMBER, DuplicatePhoneNumberException.INSTANCE.getMessage());
+                } else {
+                    person.set(personDto);
+                    updated.add(person);
+                    result.succeed(item.getId());
+                }
+            }
+
+            personRepository.flush();       // chunk의 변경을 batch update로 반영
+            entityManager.clear();          // 반영이 끝난 entity를 persistence context에서 제거하여 다음 chunk의 dirty checking 대상에서 제외
+        }
+
+        evict(updated.stream().map(Person::getId).distinct().collect(Collectors.toList()));
+        updated.forEach(person -> eventPublisher.publishEvent(PersonSavedEvent.of(person)));
+
+        return result;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PERSON_CACHE, key = "#id")
+    @Transactional
+    public void modify(Long id, String name, Set<Long> versions) {
+        Person person = getPersonIfVersionMatches(id, versions);
 
         person.setName(name);
 
         personRepository.save(person);
+
+        eventPublisher.publishEvent(PersonSavedEvent.of(person));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PERSON_CACHE, key = "#id")     // 삭제된 Person이 cache에서 조회되지 않도록 제거
     @Transactional
     public void delete(Long id) {
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+        Person person = personRepository.findById(id).orElseThrow(() -> PersonNotFoundException.INSTANCE);
 
         person.setDeleted(true);
+        person.setDeletedAt(LocalDateTime.now());
+        person.setPhoneKey(null);       // 삭제된 Person의 번호는 다시 등록할 수 있음
 
         personRepository.save(person);
+        personCountService.add(-1);
+
+        eventPublisher.publishEvent(PersonDeletedEvent.of(id));
+    }
+
+    @Transactional
+    public PersonBulkResult modifyAll(List<Long> ids, PersonDto personDto) {    // 여러 명의 hobby, address, job, phoneNumber, birthday를 같은 값으로 일괄 수정 (비어있는 값은 기존 값 유지)
+        if (StringUtils.hasLength(personDto.getName())) {
+            throw RenameNotPermittedException.INSTANCE;
+        }
+
+        Birthday birthday = personDto.getBirthday() != null ? Birthday.of(personDto.getBirthday()) : new Birthday();
+        List<Long> distinctIds = distinct(ids);
+
+        String phoneNumber = emptyToNull(personDto.getPhoneNumber());
+        Long phoneKey = PhoneNumberKey.of(phoneNumber);
+        if (phoneKey != null) {     // 같은 번호는 한 명만 가질 수 있음
+            if (distinctIds.size() > 1) {
+                throw DuplicatePhoneNumberException.INSTANCE;
+            }
+
+            checkPhoneNumberNotTaken(phoneKey, distinctIds.isEmpty() ? null : distinctIds.get(0));
+        }
+
+        int affected = 0;
+        for (List<Long> chunk : chunk(distinctIds)) {
+            affected += personRepository.updateAllByIdIn(chunk, emptyToNull(personDto.getHobby()), emptyToNull(personDto.getAddress()), emptyToNull(personDto.getJob()), phoneNumber, phoneKey,
+                                                         birthday.getYearOfBirthday(), birthday.getMonthOfBirthday(), birthday.getDayOfBirthday(), birthday.getMonthDayOfBirthday());
+
+            personRepository.findAllById(chunk).forEach(person -> eventPublisher.publishEvent(PersonSavedEvent.of(person)));    // 검색용 index는 변경된 값으로 다시 색인
+        }
+
+        evict(distinctIds);
+
+        return PersonBulkResult.of(distinctIds.size(), affected);
+    }
+
+    @Transactional
+    public PersonBulkResult deleteAll(List<Long> ids) {
+        List<Long> distinctIds = distinct(ids);
+
+        int affected = 0;
+        for (List<Long> chunk : chunk(distinctIds)) {
+            affected += personRepository.softDeleteAllByIdIn(chunk);
+        }
+        personCountService.add(-affected);     // 이미 삭제된 id는 affected에 포함되지 않음
+
+        evict(distinctIds);
+        distinctIds.forEach(id -> eventPublisher.publishEvent(PersonDeletedEvent.of(id)));
+
+        return PersonBulkResult.of(distinctIds.size(), affected);
     }
 
 
 
     /************** birthday-friends **************/
-    public List<Person> getBirthdayFriends() {
-        return personRepository.findBirthdayBetweenTodayAndTomorrow(LocalDate.now().getMonthValue(), LocalDate.now().getDayOfMonth());
+    @Transactional(readOnly = true)
+    public List<PersonSummary> getBirthdayFriends(int days) {     // 오늘부터 days일 후까지 생일인 사람 (days = 1 : 오늘, 내일)
+        return calculate(personRepository.findSummariesByMonthDayOfBirthdayIn(Birthday.monthDaysBetween(LocalDate.now(), Math.min(Math.max(days, 0), MAX_BIRTHDAY_DAYS))));
     }
     /**********************************************/
 
+
+
+    private List<PersonSummary> calculate(List<PersonSummary> people) {    // 요청 하나에서 같은 today 기준으로 age, birthdayToday 계산
+        LocalDate today = LocalDate.now();
+        people.forEach(person -> person.calculate(today));
+
+        return people;
+    }
+
+    private void checkPhoneNumberNotTaken(Long phoneKey, Long id) {      // id : 수정 대상 (자기 자신의 번호는 중복이 아님)
+        if (isPhoneNumberTaken(phoneKey, id)) {
+            throw DuplicatePhoneNumberException.INSTANCE;
+        }
+    }
+
+    private boolean isPhoneNumberTaken(Long phoneKey, Long id) {
+        if (phoneKey == null) {
+            return false;
+        }
+
+        Long ownerId = phoneNumberIndex.find(phoneKey);
+
+        return ownerId != null && !ownerId.equals(id) && personRepository.existsById(ownerId);     // index는 commit 이후 갱신되므로 DB에서 한 번 더 확인 (동시 등록은 unique index가 막음)
+    }
+
+    private boolean isPhoneNumberTaken(Long phoneKey, Long id, Map<Long, Long> claimedPhoneKeys) {     // 일괄 수정 : 같은 요청의 앞선 건에서 사용한 번호도 중복으로 처리
+        if (phoneKey == null) {
+            return false;
+        }
+
+        Long claimedId = claimedPhoneKeys.get(phoneKey);
+        if (claimedId != null ? !claimedId.equals(id) : isPhoneNumberTaken(phoneKey, id)) {
+            return true;
+        }
+
+        claimedPhoneKeys.put(phoneKey, id);
+
+        return false;
+    }
+
+    private Person getPersonIfVersionMatches(Long id, Set<Long> versions) {
+        Person person = personRepository.findById(id).orElseThrow(() -> PersonNotFoundException.INSTANCE);
+
+        if (versions != null && !versions.contains(person.getVersion())) {      // 목록 중 하나라도 현재 version과 같아야 함
+            throw PreconditionFailedException.INSTANCE;
+        }
+
+        return person;
+    }
+
+    private void evict(List<Long> ids) {    // TransactionAwareCacheDecorator이므로 commit 이후에 evict됨
+        Cache cache = cacheManager.getCache(CacheConfig.PERSON_CACHE);
+        ids.forEach(cache::evict);
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        return ids.stream()
+                  .filter(Objects::nonNull)
+                  .distinct()
+                  .collect(Collectors.toList());
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + BULK_CHUNK_SIZE, values.size())));
+        }
+
+        return chunks;
+    }
+
+    private static String emptyToNull(String value) {     // Person.set과 같이 빈 문자열은 변경하지 않음
+        return StringUtils.hasLength(value) ? value : null;
+    }
+
+    private Person toPerson(PersonDto personDto) {
+        Person person = new Person();
+        person.set(personDto);
+        person.setName(personDto.getName());
+
+        return person;
+    }
+
 }
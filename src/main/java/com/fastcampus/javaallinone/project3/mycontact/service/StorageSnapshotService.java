@@ -0,0 +1,118 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.SnapshotResult;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Restore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@Profile("persistent")
+@Slf4j
+public class StorageSnapshotService {      // file H2 DB의 online snapshot(BACKUP TO) 생성과 기동 시 snapshot 복원
+
+    public static final String DATABASE_NAME = "mycontact";
+
+    private static final String SNAPSHOT_PREFIX = DATABASE_NAME + "-";
+
+    private static final String SNAPSHOT_SUFFIX = ".zip";
+
+    private static final DateTimeFormatter SNAPSHOT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${mycontact.storage.snapshot-directory}")
+    private String snapshotDirectory;
+
+    @Value("${mycontact.storage.snapshot-retain}")
+    private int snapshotRetain;
+
+    public synchronized SnapshotResult create() {      // 요청을 멈추지 않고 일관된 시점의 DB file을 zip으로 복사, 임시 이름으로 쓴 뒤 rename하여 복원 시 쓰다 만 file을 읽지 않도록 함
+        long start = System.nanoTime();
+
+        Path directory = Paths.get(snapshotDirectory);
+        Path snapshot = directory.resolve(SNAPSHOT_PREFIX + LocalDateTime.now().format(SNAPSHOT_TIME_FORMAT) + SNAPSHOT_SUFFIX);
+        Path temporary = directory.resolve(snapshot.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(directory);
+            jdbcTemplate.execute("backup to '" + temporary.toAbsolutePath().toString().replace("'", "''") + "'");
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE);
+
+            deleteOldSnapshots(directory);
+
+            SnapshotResult result = SnapshotResult.of(snapshot.toAbsolutePath().toString(), Files.size(snapshot), (System.nanoTime() - start) / 1_000_000);
+            log.info("snapshot 생성 : {}", result);
+
+            return result;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public List<String> list() {
+        return snapshots(Paths.get(snapshotDirectory)).stream().map(path -> path.toAbsolutePath().toString()).collect(Collectors.toList());
+    }
+
+    private void deleteOldSnapshots(Path directory) throws IOException {
+        List<Path> snapshots = snapshots(directory);
+        for (Path path : snapshots.subList(Math.min(snapshotRetain, snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    public static void restoreIfEmpty(String storageDirectory, String snapshotDirectory, String restoreFrom) {     // DB file이 없을 때만 restoreFrom(없으면 가장 최근 snapshot)으로 복원, DataSource 생성 전에 호출
+        Path database = Paths.get(storageDirectory).resolve(DATABASE_NAME + ".mv.db");
+        if (Files.exists(database)) {
+            if (StringUtils.hasText(restoreFrom)) {
+                log.warn("{}가 이미 있으므로 {}에서 복원하지 않음", database, restoreFrom);
+            }
+            return;
+        }
+
+        List<Path> snapshots = snapshots(Paths.get(snapshotDirectory));
+        Path snapshot = StringUtils.hasText(restoreFrom) ? Paths.get(restoreFrom) : snapshots.isEmpty() ? null : snapshots.get(0);
+        if (snapshot == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Restore.execute(snapshot.toString(), storageDirectory, DATABASE_NAME);
+
+        log.info("{}에서 DB 복원 ({}ms)", snapshot, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static List<Path> snapshots(Path directory) {     // 최근 snapshot부터 (file 이름의 시각 순)
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(SNAPSHOT_PREFIX) && path.getFileName().toString().endsWith(SNAPSHOT_SUFFIX))
+                        .sorted(Comparator.comparing(Path::getFileName).reversed())
+                        .collect(Collectors.toList());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
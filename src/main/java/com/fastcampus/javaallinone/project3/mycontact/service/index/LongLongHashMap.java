@@ -0,0 +1,123 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+class LongLongHashMap {     // long -> long open addressing(linear probing) hash map : Long boxing, Entry 객체 없이 배열 두 개만 사용 (동기화는 사용하는 쪽에서 처리)
+
+    private static final long EMPTY = 0L;      // key 0은 빈 칸을 뜻하므로 저장할 수 없음
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private int mask;
+
+    private int size;
+
+    LongLongHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    long get(long key, long defaultValue) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return defaultValue;
+    }
+
+    void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0은 저장할 수 없습니다.");
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (++size > keys.length / 2) {     // load factor 0.5 : 탐색 길이를 짧게 유지
+            rehash(keys.length * 2);
+        }
+    }
+
+    boolean remove(long key) {      // tombstone 없이 뒤쪽 항목을 당겨와서 탐색 경로가 끊기지 않도록 함 (backward shift deletion)
+        if (key == EMPTY) {
+            return false;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return false;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        int empty = slot;
+        int next = (empty + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - empty) & mask)) {      // 원래 위치(home)에서 empty를 지나야 도달하는 항목만 당김
+                keys[empty] = keys[next];
+                values[empty] = values[next];
+                empty = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        keys[empty] = EMPTY;
+        size--;
+
+        return true;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;     // 연속된 key(전화번호, id)가 인접한 칸에 몰리지 않도록 섞음
+
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+}
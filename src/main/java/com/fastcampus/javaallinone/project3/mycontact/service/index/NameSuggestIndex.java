@@ -0,0 +1,147 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class NameSuggestIndex implements PersonIndex {     // 이름 자동완성 : 정규화한 이름과 초성(ex. 김민수 -> ㄱㅁㅅ)을 정렬된 map에 저장하여 prefix 범위 조회
+
+    private static final char ID_SEPARATOR = '\u0000';     // 같은 이름이 여러 명이어도 key가 겹치지 않도록 key 뒤에 id를 붙임
+
+    private static final char HANGUL_BEGIN = '가';
+
+    private static final char HANGUL_END = '힣';
+
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;     // 중성 21개 * 종성 28개
+
+    private static final char[] CHOSUNG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+    // 조회는 lock 없이 하므로 교체 시 바로 보이도록 volatile
+    private volatile ConcurrentSkipListMap<String, PersonSuggestion> nameKeys = new ConcurrentSkipListMap<>();
+
+    private volatile ConcurrentSkipListMap<String, PersonSuggestion> chosungKeys = new ConcurrentSkipListMap<>();
+
+    private volatile Map<Long, String> namesById = new ConcurrentHashMap<>();     // 수정/삭제 시 이전 key를 찾기 위해 보관
+
+    public List<PersonSuggestion> suggest(String query, int size) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 초성이 하나라도 포함되어 있으면 초성 key에서 조회 (ex. ㄱㅁㅅ, 김ㅁㅅ)
+        boolean chosungQuery = containsChosung(normalized);
+        NavigableMap<String, PersonSuggestion> keys = chosungQuery ? chosungKeys : nameKeys;
+        String prefix = chosungQuery ? toChosung(normalized) : normalized;
+
+        List<PersonSuggestion> suggestions = new ArrayList<>(size);
+        for (PersonSuggestion suggestion : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (suggestions.size() == size) {
+                break;
+            }
+
+            suggestions.add(suggestion);
+        }
+
+        return suggestions;
+    }
+
+    @Override
+    public synchronized void index(Person person) {
+        remove(person.getId());
+
+        String normalized = normalize(person.getName());
+        PersonSuggestion suggestion = PersonSuggestion.of(person.getId(), person.getName());
+
+        nameKeys.put(toKey(normalized, person.getId()), suggestion);
+        chosungKeys.put(toKey(toChosung(normalized), person.getId()), suggestion);
+        namesById.put(person.getId(), person.getName());
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        String name = namesById.remove(id);
+        if (name == null) {
+            return;
+        }
+
+        String normalized = normalize(name);
+        nameKeys.remove(toKey(normalized, id));
+        chosungKeys.remove(toKey(toChosung(normalized), id));
+    }
+
+    @Override
+    public synchronized void clear() {
+        nameKeys.clear();
+        chosungKeys.clear();
+        namesById.clear();
+    }
+
+    @Override
+    public NameSuggestIndex emptyCopy() {
+        return new NameSuggestIndex();
+    }
+
+    @Override
+    public synchronized void replaceWith(PersonIndex rebuilt) {
+        NameSuggestIndex source = (NameSuggestIndex) rebuilt;
+
+        nameKeys = source.nameKeys;
+        chosungKeys = source.chosungKeys;
+        namesById = source.namesById;
+    }
+
+    static String normalize(String name) {     // NFC 정규화(자모가 분리된 입력 결합), 소문자, 공백 제거
+        if (name == null) {
+            return "";
+        }
+
+        String composed = Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder builder = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    static String toChosung(String normalized) {   // 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둠
+        char[] chars = normalized.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= HANGUL_BEGIN && chars[i] <= HANGUL_END) {
+                chars[i] = CHOSUNG[(chars[i] - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+
+        return new String(chars);
+    }
+
+    private static boolean containsChosung(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) >= 'ㄱ' && normalized.charAt(i) <= 'ㅎ') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String toKey(String value, Long id) {
+        return value + ID_SEPARATOR + id;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+
+public interface PersonIndex {      // 메모리 검색 index, PersonIndexSynchronizer가 기동 시 재구성하고 변경 event로 갱신
+
+    void index(Person person);      // 등록 또는 수정 (이전 값은 교체)
+
+    void remove(Long id);
+
+    void clear();
+
+    PersonIndex emptyCopy();        // 재구성용 : 같은 종류의 빈 index (사용 중인 index에 영향 없이 따로 채움)
+
+    void replaceWith(PersonIndex rebuilt);      // emptyCopy()로 만들어 채운 index의 내용으로 한 번에 교체 (조회는 교체 전/후 중 하나의 내용을 봄)
+
+}
@@ -0,0 +1,127 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonDeletedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonSavedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class PersonIndexSynchronizer implements SmartLifecycle {    // web server가 요청을 받기 전에 index를 구성 (WebServerStartStopLifecycle보다 앞선 phase)
+
+    private static final int PHASE = 0;
+
+    @Autowired
+    private List<PersonIndex> indexes;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private List<Consumer<PersonIndex>> pendingChanges;     // 재구성 중에 commit된 변경 (구성이 끝나면 새 index에 다시 반영), 재구성 중이 아니면 null
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public void rebuild() {     // 전체 Person을 cursor로 한 번만 읽어 빈 index에 구성한 뒤 사용 중인 index와 교체 (구성 중에도 기존 index로 조회 가능)
+        List<PersonIndex> rebuilt = indexes.stream().map(PersonIndex::emptyCopy).collect(Collectors.toList());
+
+        synchronized (this) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        long count = transactionTemplate.execute(status -> {
+            long indexed = 0;
+            try (Stream<Person> people = personRepository.streamAll()) {
+                Iterator<Person> iterator = people.iterator();
+
+                while (iterator.hasNext()) {
+                    Person person = iterator.next();
+
+                    rebuilt.forEach(index -> index.index(person));
+                    entityManager.detach(person);
+                    indexed++;
+                }
+            }
+
+            return indexed;
+        });
+
+        synchronized (this) {       // cursor 이후의 변경을 새 index에 반영하고 교체 (이 사이에 오는 event는 lock을 기다렸다가 교체된 index에 반영됨)
+            for (Consumer<PersonIndex> change : pendingChanges) {
+                rebuilt.forEach(change);
+            }
+
+            for (int i = 0; i < indexes.size(); i++) {
+                indexes.get(i).replaceWith(rebuilt.get(i));
+            }
+
+            pendingChanges = null;
+        }
+
+        log.info("person index {}건 구성 완료", count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)     // commit 이후에 반영하여 rollback된 변경이 index에 남지 않도록 함
+    public void onPersonSaved(PersonSavedEvent event) {
+        apply(index -> index.index(event.getPerson()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPersonDeleted(PersonDeletedEvent event) {
+        apply(index -> index.remove(event.getId()));
+    }
+
+    private synchronized void apply(Consumer<PersonIndex> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+
+        indexes.forEach(change);
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class PersonSearchIndex implements PersonIndex {    // hobby, address, job 전문 검색용 역색인 (term -> id 목록)
+
+    private static final float JOB_WEIGHT = 3.0f;
+
+    private static final float HOBBY_WEIGHT = 2.0f;
+
+    private static final float ADDRESS_WEIGHT = 1.0f;
+
+    private Map<String, PostingList> postingsByTerm = new HashMap<>();
+
+    private Map<Long, String[]> termsById = new HashMap<>();     // 수정/삭제 시 이전 term의 posting을 제거하기 위해 보관
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public List<Long> search(String query, int size) {     // 일치한 term의 idf * field 가중치 합이 큰 순서로 id 반환
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = termsById.size();
+
+            List<PostingList> matched = new ArrayList<>(terms.size());
+            float[] idfs = new float[terms.size()];
+            int postingCount = 0;
+            for (String term : terms) {
+                PostingList postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+
+                idfs[matched.size()] = (float) Math.log(1 + (double) documentCount / postings.size);
+                matched.add(postings);
+                postingCount += postings.size;
+            }
+
+            TopScores top = new TopScores(Math.min(size, postingCount));
+
+            // posting이 id 순으로 정렬되어 있으므로 term별 목록을 merge하며 id 하나의 점수를 바로 합산 (id별 점수 Map 없음)
+            int[] cursors = new int[matched.size()];
+            while (true) {
+                long id = 0;
+                boolean found = false;
+                for (int i = 0; i < cursors.length; i++) {
+                    PostingList postings = matched.get(i);
+                    if (cursors[i] < postings.size && (!found || postings.ids[cursors[i]] < id)) {
+                        id = postings.ids[cursors[i]];
+                        found = true;
+                    }
+                }
+
+                if (!found) {
+                    break;
+                }
+
+                float score = 0;
+                for (int i = 0; i < cursors.length; i++) {
+                    PostingList postings = matched.get(i);
+                    if (cursors[i] < postings.size && postings.ids[cursors[i]] == id) {
+                        score += idfs[i] * postings.weights[cursors[i]];
+                        cursors[i]++;
+                    }
+                }
+
+                top.offer(id, score);
+            }
+
+            return top.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Person person) {
+        Map<String, Float> weights = new LinkedHashMap<>();
+        addTerms(weights, person.getJob(), JOB_WEIGHT);
+        addTerms(weights, person.getHobby(), HOBBY_WEIGHT);
+        addTerms(weights, person.getAddress(), ADDRESS_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(person.getId());
+
+            if (weights.isEmpty()) {
+                return;
+            }
+
+            weights.forEach((term, weight) -> postingsByTerm.computeIfAbsent(term, key -> new PostingList()).add(person.getId(), weight));
+            termsById.put(person.getId(), weights.keySet().toArray(new String[0]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            termsById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public PersonSearchIndex emptyCopy() {
+        return new PersonSearchIndex();
+    }
+
+    @Override
+    public void replaceWith(PersonIndex rebuilt) {
+        PersonSearchIndex source = (PersonSearchIndex) rebuilt;
+
+        lock.writeLock().lock();
+        try {
+            postingsByTerm = source.postingsByTerm;
+            termsById = source.termsById;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        String[] terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            PostingList postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {     // 영문/숫자는 단어 단위, 한글은 형태소 분석 없이 2글자씩 겹쳐 자름 (ex. 강남구청 -> 강남, 남구, 구청)
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int start = 0;
+        while (start < normalized.length()) {
+            char c = normalized.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+
+            boolean hangul = isHangul(c);
+            int end = start + 1;
+            while (end < normalized.length() && Character.isLetterOrDigit(normalized.charAt(end)) && isHangul(normalized.charAt(end)) == hangul) {
+                end++;
+            }
+
+            if (hangul && end - start > 1) {
+                for (int i = start; i < end - 1; i++) {
+                    terms.add(normalized.substring(i, i + 2));
+                }
+            } else {
+                terms.add(normalized.substring(start, end));
+            }
+
+            start = end;
+        }
+
+        return terms;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static class PostingList {     // term 하나의 (id, 가중치) 목록, boxing 없이 배열로 보관하고 id 순으로 정렬 유지
+
+        private long[] ids = new long[4];
+
+        private float[] weights = new float[4];
+
+        private int size;
+
+        private void add(long id, float weight) {     // 재구성은 id 순으로 읽고 새 Person은 더 큰 id이므로 대부분 끝에 추가됨
+            int index = size == 0 || ids[size - 1] < id ? size : -Arrays.binarySearch(ids, 0, size, id) - 1;     // 같은 id는 index 전에 제거되므로 항상 없음
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(weights, index, weights, index + 1, size - index);
+            ids[index] = id;
+            weights[index] = weight;
+            size++;
+        }
+
+        private boolean remove(long id) {     // 선형 탐색 대신 binary search로 찾고 뒤쪽 항목을 한 칸씩 당김
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+
+            return true;
+        }
+
+    }
+
+    private static class TopScores {       // 점수가 가장 낮은 항목이 root인 크기 capacity의 min heap (long, float 배열로 boxing 없이 보관)
+
+        private final long[] ids;
+
+        private final float[] scores;
+
+        private int size;
+
+        private TopScores(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new float[capacity];
+        }
+
+        private void offer(long id, float score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && isHigher(id, score, 0)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        private List<Long> toList() {      // 점수가 높은 순 (같으면 id가 작은 순)
+            Long[] result = new Long[size];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = ids[0];
+
+                size--;
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+
+            return Arrays.asList(result);
+        }
+
+        private boolean isHigher(long id, float score, int index) {
+            return score > scores[index] || (score == scores[index] && id < ids[index]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!isHigher(ids[parent], scores[parent], index)) {
+                    return;
+                }
+
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int lowest = index;
+                for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                    if (isHigher(ids[lowest], scores[lowest], child)) {
+                        lowest = child;
+                    }
+                }
+
+                if (lowest == index) {
+                    return;
+                }
+
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+
+            float score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class PhoneNumberIndex implements PersonIndex {      // 발신자 조회 : 정규화한 전화번호(Person.phoneKey) -> id, DB 조회 없이 메모리에서 찾음
+
+    private static final long NOT_FOUND = 0L;      // id는 1부터 할당됨
+
+    private LongLongHashMap idsByPhoneKey = new LongLongHashMap();
+
+    private LongLongHashMap phoneKeysById = new LongLongHashMap();    // 수정/삭제 시 이전 번호를 제거하기 위해 보관
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Long find(long phoneKey) {      // 없으면 null
+        long id;
+
+        lock.readLock().lock();
+        try {
+            id = idsByPhoneKey.get(phoneKey, NOT_FOUND);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return id == NOT_FOUND ? null : id;
+    }
+
+    @Override
+    public void index(Person person) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(person.getId());
+
+            if (person.getPhoneKey() != null && !person.isDeleted()) {
+                idsByPhoneKey.put(person.getPhoneKey(), person.getId());
+                phoneKeysById.put(person.getId(), person.getPhoneKey());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            idsByPhoneKey.clear();
+            phoneKeysById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public PhoneNumberIndex emptyCopy() {
+        return new PhoneNumberIndex();
+    }
+
+    @Override
+    public void replaceWith(PersonIndex rebuilt) {
+        PhoneNumberIndex source = (PhoneNumberIndex) rebuilt;
+
+        lock.writeLock().lock();
+        try {
+            idsByPhoneKey = source.idsByPhoneKey;
+            phoneKeysById = source.phoneKeysById;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        long phoneKey = phoneKeysById.get(id, NOT_FOUND);
+        if (phoneKey == NOT_FOUND) {
+            return;
+        }
+
+        phoneKeysById.remove(id);
+        if (idsByPhoneKey.get(phoneKey, NOT_FOUND) == id) {    // 같은 번호가 이미 다른 id로 색인되었으면 유지
+            idsByPhoneKey.remove(phoneKey);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 10, new ObjectMapper());
+
+    @Test
+    void doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (request, servletResponse) -> ((MockHttpServletResponse) servletResponse).setStatus(200));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilterIfLimitExceeded() throws Exception {     // 첫 요청이 처리 중일 때 들어온 요청은 503
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                        (request, response) -> filter.doFilter(new MockHttpServletRequest(), rejected, (innerRequest, innerResponse) -> { }));
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString(StandardCharsets.UTF_8)).contains("\"code\":503");
+    }
+
+    @Test
+    void doFilterAfterRelease() throws Exception {    // 앞선 요청이 끝나면 다시 처리
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> { });
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), response, (request, servletResponse) -> ((MockHttpServletResponse) servletResponse).setStatus(200));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@Transactional
+class PersonMetricsAspectTest {
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @Test
+    void timeService() {
+        long count = count("mycontact.service", "getPeopleByName", "none");
+
+        personService.getPeopleByName("martin");      // getPerson은 cache에서 조회될 수 있으므로 cache가 없는 method로 확인
+
+        assertThat(count("mycontact.service", "getPeopleByName", "none")).isEqualTo(count + 1);
+        assertThat(meterRegistry.find("mycontact.repository").tag("method", "findSummariesByName").timer()).isNotNull();
+    }
+
+    @Test
+    void timeServiceIfThrown() {
+        long count = count("mycontact.service", "modify", "PersonNotFoundException");
+
+        assertThrows(PersonNotFoundException.class, () -> personService.modify(10000L, "daniel", null));
+
+        assertThat(count("mycontact.service", "modify", "PersonNotFoundException")).isEqualTo(count + 1);
+        assertThat(meterRegistry.find("mycontact.service").tags("method", "modify", "outcome", "error").timer()).isNotNull();
+    }
+
+    @Test
+    void timeJsonSerialization() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1"))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("mycontact.json.serialization").tag("type", "Person").timer()).isNotNull();
+    }
+
+    @Test
+    void hibernateStatistics() {
+        personService.getPerson(1L);
+
+        assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+    }
+
+    private long count(String name, String method, String exception) {
+        Timer timer = meterRegistry.find(name).tags("method", method, "exception", exception).timer();
+
+        return timer == null ? 0 : timer.count();
+    }
+
+}
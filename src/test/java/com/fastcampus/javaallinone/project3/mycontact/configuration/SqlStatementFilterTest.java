@@ -0,0 +1,138 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchItem;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonCountService;
+import com.fastcampus.javaallinone.project3.mycontact.service.PersonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class SqlStatementFilterTest {     // endpoint별 SQL 실행 수 budget : SQL은 commit 시점에 실행되므로 @Transactional 없이 검증하고, 저장한 data는 테스트 후 직접 삭제
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonCountService personCountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Autowired
+    private FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter;
+
+    private MockMvc mockMvc;
+
+    private Long id;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(wac)
+                                 .addFilters(sqlStatementFilter.getFilter())
+                                 .build();
+
+        personService.put(PersonDto.of("budget", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222"));
+
+        id = personRepository.findByName("budget").get(0).getId();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("delete from person where name like 'budget%'");
+        personCountService.reconcile();     // service를 거치지 않고 삭제했으므로 person counter 보정
+    }
+
+    @Test
+    void getAll() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person"))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2));      // page 조회 + (마지막 page가 아니면) person counter 조회
+    }
+
+    @Test
+    void getPerson() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/" + id))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2))       // version 조회 + (cache miss 또는 cache의 version이 다를 때) 단건 조회
+                .andExpect(header().exists(SqlStatementFilter.SQL_TIME_HEADER));
+    }
+
+    @Test
+    void modifyPerson() throws Exception {
+        PersonDto dto = PersonDto.of("budget", "reading", "서울", LocalDate.of(1991, 8, 15), "officer", "010-1111-2222");
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/person/" + id)
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2));      // 조회 + update
+    }
+
+    @Test
+    void modifyPeopleInBatch() throws Exception {     // 건수와 관계없이 IN 조회 한 번 + JDBC batch update 한 번 (batch_size 이하)
+        personService.putAll(List.of(PersonDto.of("budget2", null, null, null, null, null), PersonDto.of("budget3", null, null, null, null, null)));
+        List<PersonBatchItem> items = personRepository.findByName("budget2").stream().map(person -> PersonBatchItem.of(person.getId(), PersonDto.of("budget2", "reading", null, null, null, null))).collect(Collectors.toList());
+        items.addAll(personRepository.findByName("budget3").stream().map(person -> PersonBatchItem.of(person.getId(), PersonDto.of("budget3", "reading", null, null, null, null))).collect(Collectors.toList()));
+        items.add(PersonBatchItem.of(id, PersonDto.of("budget", "reading", null, null, null, null)));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/person/batch")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(sqlCountAtMost(2));
+
+        assertThat(personRepository.findByName("budget3").get(0).getHobby()).isEqualTo("reading");
+    }
+
+    @Test
+    void recordMetrics() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/" + id))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("mycontact.http.sql.statements").tags("method", "GET", "uri", "/api/person/{id}").summary()).isNotNull();
+        assertThat(meterRegistry.find("mycontact.http.sql.time").tags("method", "GET", "uri", "/api/person/{id}").timer()).isNotNull();
+    }
+
+    private static ResultMatcher sqlCountAtMost(int budget) {
+        return result -> assertThat(Integer.parseInt(result.getResponse().getHeader(SqlStatementFilter.SQL_COUNT_HEADER)))
+                .as("SQL statement count")
+                .isPositive()
+                .isLessThanOrEqualTo(budget);
+    }
+
+}
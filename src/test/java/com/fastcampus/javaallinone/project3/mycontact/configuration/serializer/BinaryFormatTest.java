@@ -0,0 +1,132 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.JsonConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryFormatTest {     // Smile, CBOR도 JSON과 같은 module로 직렬화하므로 읽어 들인 값(tree)이 JSON과 같아야 함
+
+    private final JsonConfig jsonConfig = new JsonConfig();
+
+    private final ObjectMapper objectMapper = jsonConfig.objectMapper();
+
+    private final List<ObjectMapper> binaryMappers = List.of(jsonConfig.smileMapper(), jsonConfig.cborMapper());
+
+    @Test
+    void serializePerson() throws Exception {
+        for (ObjectMapper binaryMapper : binaryMappers) {
+            for (Person person : people()) {
+                assertThat(binaryMapper.readTree(binaryMapper.writeValueAsBytes(person))).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(person)));
+            }
+        }
+    }
+
+    @Test
+    void serializePage() throws Exception {      // 목록 API 응답 형태
+        LocalDate today = LocalDate.now();
+
+        List<PersonSummary> summaries = new ArrayList<>();
+        for (Person person : people()) {
+            summaries.add(new PersonSummary(person.getId(), person.getName(), person.getHobby(), person.getAddress(), person.getBirthday(),
+                                            person.getJob(), person.getPhoneNumber(), person.isDeleted()).calculate(today));
+        }
+        PageImpl<PersonSummary> page = new PageImpl<>(summaries, PageRequest.of(0, 10), 100);
+
+        byte[] json = objectMapper.writeValueAsBytes(page);
+
+        for (ObjectMapper binaryMapper : binaryMappers) {
+            byte[] bytes = binaryMapper.writeValueAsBytes(page);
+
+            assertThat(binaryMapper.readTree(bytes)).isEqualTo(objectMapper.readTree(json));
+            assertThat(bytes.length).isLessThan(json.length);
+        }
+    }
+
+    @Test
+    void deserializePerson() throws Exception {
+        for (ObjectMapper binaryMapper : binaryMappers) {
+            for (Person person : people()) {
+                Person result = binaryMapper.readValue(binaryMapper.writeValueAsBytes(person), Person.class);
+
+                assertThat(result.getId()).isEqualTo(person.getId());
+                assertThat(result.getName()).isEqualTo(person.getName());
+                assertThat(result.getAddress()).isEqualTo(person.getAddress());
+                assertThat(result.getBirthday()).isEqualTo(person.getBirthday());
+                assertThat(result.getPhoneNumber()).isEqualTo(person.getPhoneNumber());
+            }
+        }
+    }
+
+    @Test
+    void deserializePersonDto() throws Exception {
+        PersonDto personDto = PersonDto.of("martin", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222");
+
+        for (ObjectMapper binaryMapper : binaryMappers) {
+            PersonDto result = binaryMapper.readValue(binaryMapper.writeValueAsBytes(personDto), PersonDto.class);
+
+            assertThat(result.getName()).isEqualTo("martin");
+            assertThat(result.getAddress()).isEqualTo("판교");
+            assertThat(result.getBirthday()).isEqualTo(LocalDate.of(1991, 8, 15));
+        }
+    }
+
+    @Test
+    void serializeBirthdayAsCbor() throws Exception {     // tag 1004 (0xd9 0x03 0xec) + 10 byte 문자열
+        byte[] bytes = jsonConfig.cborMapper().writeValueAsBytes(Birthday.of(LocalDate.of(1991, 8, 15)));
+
+        assertThat(bytes).startsWith(0xd9, 0x03, 0xec, 0x6a);
+        assertThat(new String(bytes, 4, 10)).isEqualTo("1991-08-15");
+
+        try (CBORParser parser = jsonConfig.cborMapper().getFactory().createParser(bytes)) {
+            parser.nextToken();
+
+            assertThat(parser.getCurrentTag()).isEqualTo(IsoDates.CBOR_FULL_DATE_TAG);
+        }
+    }
+
+    @Test
+    void deserializeBirthdayFromCborDays() throws Exception {     // tag 100 (1970-01-01 기준 일 수)로 보낸 날짜
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CBORGenerator generator = jsonConfig.cborMapper().getFactory().createGenerator(outputStream)) {
+            generator.writeTag(IsoDates.CBOR_DAYS_TAG);
+            generator.writeNumber(LocalDate.of(1991, 8, 15).toEpochDay());
+        }
+
+        assertThat(jsonConfig.cborMapper().readValue(outputStream.toByteArray(), Birthday.class)).isEqualTo(Birthday.of(LocalDate.of(1991, 8, 15)));
+    }
+
+    private static List<Person> people() {
+        Person martin = new Person("martin");
+        martin.setId(1L);
+        martin.setHobby("programming");
+        martin.setAddress("판교");
+        martin.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15)));
+        martin.setJob("programmer");
+        martin.setPhoneNumber("010-1111-2222");
+
+        Person david = new Person("david");
+        david.setId(2L);
+        david.setAddress("판교");
+        david.setBirthday(Birthday.of(LocalDate.now()));
+
+        Person empty = new Person("empty");     // null field, 생일 없음
+
+        return List.of(martin, david, empty);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.JsonConfig;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BirthdaySerializerTest {
+
+    private final ObjectMapper objectMapper = new JsonConfig().objectMapper();
+
+    @Test
+    void serialize() throws Exception {     // LocalDate.toString()과 같은 문자열
+        for (LocalDate date : new LocalDate[]{LocalDate.of(1991, 8, 15), LocalDate.of(2000, 12, 31), LocalDate.of(5, 1, 2),
+                                              LocalDate.of(0, 1, 1), LocalDate.of(-1, 2, 3), LocalDate.of(12345, 8, 15), LocalDate.of(-12345, 8, 15)}) {
+            assertThat(objectMapper.writeValueAsString(Birthday.of(date))).isEqualTo("\"" + date + "\"");
+        }
+    }
+
+    @Test
+    void serializeIfEmpty() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new Birthday())).isEqualTo("null");
+    }
+
+    @Test
+    void deserialize() throws Exception {
+        Birthday birthday = objectMapper.readValue("\"1991-08-15\"", Birthday.class);
+
+        assertThat(birthday).isEqualTo(Birthday.of(LocalDate.of(1991, 8, 15)));
+        assertThat(birthday.getMonthDayOfBirthday()).isEqualTo(815);
+    }
+
+    @Test
+    void deserializeIfNotIsoDate() throws Exception {    // "yyyy-MM-dd"가 아닌 형식은 JavaTimeModule에서 처리
+        assertThat(objectMapper.readValue("[1991,8,15]", Birthday.class)).isEqualTo(Birthday.of(LocalDate.of(1991, 8, 15)));
+        assertThat(objectMapper.readValue("\"+12345-08-15\"", Birthday.class)).isEqualTo(Birthday.of(LocalDate.of(12345, 8, 15)));
+    }
+
+    @Test
+    void deserializeIfInvalidDate() {
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("\"1991-02-30\"", Birthday.class));
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("\"1991-0a-15\"", Birthday.class));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.JsonConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersonDeserializerTest {
+
+    private final ObjectMapper objectMapper = new JsonConfig().objectMapper();
+
+    @Test
+    void deserializePerson() throws Exception {     // PersonSerializer 출력을 다시 읽음 (age, birthdayToday는 무시)
+        Person person = new Person("martin");
+        person.setId(1L);
+        person.setHobby("programming");
+        person.setAddress("판교");
+        person.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15)));
+        person.setJob("programmer");
+        person.setPhoneNumber("010-1111-2222");
+
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(person), Person.class)).isEqualTo(person);
+    }
+
+    @Test
+    void deserializePersonDto() throws Exception {
+        PersonDto personDto = objectMapper.readValue("{\"name\":\"martin\",\"hobby\":null,\"address\":\"판교\",\"birthday\":\"1991-08-15\",\"job\":\"programmer\",\"phoneNumber\":\"010-1111-2222\"}", PersonDto.class);
+
+        assertThat(personDto).isEqualTo(PersonDto.of("martin", null, "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222"));
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(personDto), PersonDto.class)).isEqualTo(personDto);
+    }
+
+    @Test
+    void deserializePersonDtoIfNotString() throws Exception {      // bean deserializer와 같이 숫자도 문자열로 받음
+        PersonDto personDto = objectMapper.readValue("{\"name\":\"martin\",\"phoneNumber\":1011112222,\"job\":true}", PersonDto.class);
+
+        assertThat(personDto.getPhoneNumber()).isEqualTo("1011112222");
+        assertThat(personDto.getJob()).isEqualTo("true");
+    }
+
+    @Test
+    void deserializePersonDtoIfUnknownProperty() {
+        assertThrows(UnrecognizedPropertyException.class, () -> objectMapper.readValue("{\"name\":\"martin\",\"age\":30}", PersonDto.class));
+    }
+
+    @Test
+    void deserializePersonDtoIfInvalidBirthday() {
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("{\"name\":\"martin\",\"birthday\":\"1991-13-01\"}", PersonDto.class));
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("{\"name\":\"martin\",\"birthday\":{}}", PersonDto.class));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.fastcampus.javaallinone.project3.mycontact.configuration.serializer;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.JsonConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonSerializerTest {     // 직접 작성한 serializer의 출력이 reflection 기반 bean 직렬화(기존 방식)와 byte 단위로 같은지 확인
+
+    private final ObjectMapper objectMapper = new JsonConfig().objectMapper();
+
+    private final ObjectMapper beanObjectMapper = beanObjectMapper();
+
+    @Test
+    void serializePerson() throws Exception {
+        for (Person person : people()) {
+            assertThat(objectMapper.writeValueAsBytes(person)).isEqualTo(beanObjectMapper.writeValueAsBytes(person));
+        }
+    }
+
+    @Test
+    void serializePersonSummary() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        for (Person person : people()) {
+            PersonSummary summary = new PersonSummary(person.getId(), person.getName(), person.getHobby(), person.getAddress(), person.getBirthday(),
+                                                      person.getJob(), person.getPhoneNumber(), person.isDeleted()).calculate(today);
+
+            assertThat(objectMapper.writeValueAsBytes(summary)).isEqualTo(beanObjectMapper.writeValueAsBytes(summary));
+        }
+    }
+
+    @Test
+    void serializePage() throws Exception {      // 목록 API 응답 형태
+        PageImpl<Person> page = new PageImpl<>(people(), PageRequest.of(0, 10), 100);
+
+        assertThat(objectMapper.writeValueAsBytes(page)).isEqualTo(beanObjectMapper.writeValueAsBytes(page));
+    }
+
+    @Test
+    void serializePersonDto() throws Exception {
+        PersonDto personDto = PersonDto.of("martin", null, "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222");
+
+        assertThat(objectMapper.writeValueAsBytes(personDto)).isEqualTo(beanObjectMapper.writeValueAsBytes(personDto));
+        assertThat(objectMapper.writeValueAsBytes(new PersonDto())).isEqualTo(beanObjectMapper.writeValueAsBytes(new PersonDto()));
+    }
+
+    @Test
+    void today() {
+        assertThat(PersonSerializer.today()).isEqualTo(LocalDate.now());
+    }
+
+    private static List<Person> people() {
+        Person martin = new Person("martin");
+        martin.setId(1L);
+        martin.setHobby("programming");
+        martin.setAddress("판교");
+        martin.setBirthday(Birthday.of(LocalDate.of(1991, 8, 15)));
+        martin.setJob("programmer");
+        martin.setPhoneNumber("010-1111-2222");
+        martin.setVersion(3L);
+
+        Person today = new Person("생일 \"today\"\t\u0001");      // escape가 필요한 문자
+        today.setId(Long.MAX_VALUE);
+        today.setBirthday(Birthday.of(LocalDate.now().minusYears(30)));
+        today.setDeleted(true);
+
+        Person ancient = new Person("ancient");
+        ancient.setId(3L);
+        ancient.setBirthday(Birthday.of(LocalDate.of(5, 1, 2)));
+
+        return Arrays.asList(martin, today, ancient, new Person("empty"));
+    }
+
+    private static ObjectMapper beanObjectMapper() {      // 기존 JsonConfig : Birthday는 LocalDate로 바꿔서 JavaTimeModule로 쓰고 나머지는 bean 직렬화
+        SimpleModule birthdayModule = new SimpleModule();
+        birthdayModule.addSerializer(Birthday.class, new StdDelegatingSerializer(new StdConverter<Birthday, LocalDate>() {
+            @Override
+            public LocalDate convert(Birthday value) {
+                return LocalDate.of(value.getYearOfBirthday(), value.getMonthOfBirthday(), value.getDayOfBirthday());
+            }
+        }));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(birthdayModule);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        return objectMapper;
+    }
+
+}
@@ -5,7 +5,10 @@ import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
 import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
 import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +22,20 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +51,12 @@ class PersonControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
     @Autowired
     private WebApplicationContext wac;
 
@@ -71,6 +89,202 @@ class PersonControllerTest {
                 .andExpect(jsonPath("$.content.[1].name").value("sophia"));
     }
 
+    @Test
+    void getAllSorted() throws Exception {      // sort 파라미터를 그대로 반영 (없으면 id 순)
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                                            .param("sort", "name,desc")
+                                                            .param("size", "5"))
+                             .andExpect(status().isOk())
+                             .andExpect(jsonPath("$.numberOfElements").value(5))
+                             .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> names = objectMapper.readTree(body).get("content").findValuesAsText("name");
+
+        assertThat(names).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void getAllWithoutCount() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                              .param("count", "false")
+                                              .param("page", "1")
+                                              .param("size", "2"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.totalElements").doesNotExist())     // count query를 실행하지 않음
+               .andExpect(jsonPath("$.totalPages").doesNotExist())
+               .andExpect(jsonPath("$.numberOfElements").value(2))
+               .andExpect(jsonPath("$.last").value(false))
+               .andExpect(jsonPath("$.content.[0].name").value("dennis"));
+    }
+
+    @Test
+    void getAllAfter() throws Exception {
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                                            .param("after", "")        // 첫 page
+                                                            .param("size", "5"))
+                             .andExpect(status().isOk())
+                             .andExpect(jsonPath("$.numberOfElements").value(5))
+                             .andExpect(jsonPath("$.hasNext").value(true))
+                             .andExpect(jsonPath("$.totalElements").doesNotExist())
+                             .andExpect(jsonPath("$.content.[0].name").value("martin"))
+                             .andExpect(jsonPath("$.content.[4].name").value("benny"))
+                             .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                              .param("after", nextCursor)
+                                              .param("size", "5"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content.[0].name").value("tony"))
+               .andExpect(jsonPath("$.content.[1].name").value("tom"))     // 삭제된 andrew(id = 7) 제외
+               .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getAllAfterWithoutCount() throws Exception {     // after, count=false가 함께 오면 count=false handler(Slice)로 응답
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                              .param("after", "")
+                                              .param("count", "false")
+                                              .param("size", "2"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.last").value(false))
+               .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAllAfterIfCursorIsInvalid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                              .param("after", "not-a-cursor"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.code").value(400))
+               .andExpect(jsonPath("$.message").value("잘못된 cursor 값입니다."));
+    }
+
+    @Test
+    void suggest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/suggest")
+                                              .param("q", "to"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.[0].name").value("tom"))       // 기동 시 data.sql로 저장된 Person으로 index 구성
+               .andExpect(jsonPath("$.[*].name", hasItems("tony", "tom5")));
+    }
+
+    @Test
+    void search() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/search")
+                                              .param("q", "Seoul officer"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(1))
+               .andExpect(jsonPath("$.[0].name").value("tony"));
+    }
+
+    @Test
+    void exportPeopleAsNdjson() throws Exception {
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/export"))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                             .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+
+        assertAll(() -> assertThat(lines).hasSize(11),         // 삭제된 andrew 제외
+                  () -> assertThat(lines[0]).isEqualTo("{\"id\":1,\"name\":\"martin\",\"hobby\":null,\"address\":null,\"birthday\":\"1991-08-15\",\"job\":null,\"phoneNumber\":null}"),
+                  () -> assertThat(body).doesNotContain("andrew")
+                 );
+    }
+
+    @Test
+    void exportPeopleAsCsv() throws Exception {
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/export")
+                                                            .param("format", "csv"))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+
+        assertAll(() -> assertThat(lines).hasSize(12),         // header + 11 rows
+                  () -> assertThat(lines[0]).isEqualTo("id,name,hobby,address,birthday,job,phoneNumber"),
+                  () -> assertThat(lines[6]).isEqualTo("6,tony,reading,Seoul,1991-07-10,officer,010-2222-5555")
+                 );
+    }
+
+    @Test
+    void exportPeopleAsSmile() throws Exception {
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/export")
+                                                            .param("format", "smile"))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        List<JsonNode> rows = smileMapper.readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+
+        assertAll(() -> assertThat(rows).hasSize(11),
+                  () -> assertThat(rows.get(0).get("name").asText()).isEqualTo("martin"),
+                  () -> assertThat(rows.get(0).get("birthday").asText()).isEqualTo("1991-08-15")
+                 );
+    }
+
+    @Test
+    void getAllAsSmile() throws Exception {     // Accept header로 형식 선택, 내용은 JSON 응답과 같음
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                                            .param("page", "1")
+                                                            .param("size", "2")
+                                                            .accept("application/x-jackson-smile"))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = smileMapper.readTree(body);
+
+        assertAll(() -> assertThat(page.get("numberOfElements").asInt()).isEqualTo(2),
+                  () -> assertThat(page.get("content").get(0).get("name").asText()).isEqualTo("dennis"),
+                  () -> assertThat(page.get("content").get(1).get("name").asText()).isEqualTo("sophia")
+                 );
+    }
+
+    @Test
+    void getPersonAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1")
+                                                            .accept(MediaType.APPLICATION_CBOR))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        Person result = cborMapper.readValue(body, Person.class);
+
+        assertAll(() -> assertThat(result.getName()).isEqualTo("martin"),
+                  () -> assertThat(result.getBirthday()).isEqualTo(Birthday.of(LocalDate.of(1991, 8, 15)))
+                 );
+    }
+
+    @Test
+    void getPersonAsCborIfNotFound() throws Exception {     // 오류 응답도 요청한 형식으로
+        byte[] body = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/20")
+                                                            .accept(MediaType.APPLICATION_CBOR))
+                             .andExpect(status().isNotFound())
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(cborMapper.readTree(body).get("code").asInt()).isEqualTo(404);
+    }
+
+    @Test
+    void postPersonAsCbor() throws Exception {
+        PersonDto dto = PersonDto.of("martin", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-2525-2525");
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person")
+                                              .contentType(MediaType.APPLICATION_CBOR)
+                                              .content(cborMapper.writeValueAsBytes(dto)))
+               .andExpect(status().isCreated());
+
+        Person result = personRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).get(0);
+
+        assertAll(() -> assertThat(result.getName()).isEqualTo("martin"),
+                  () -> assertThat(result.getBirthday()).isEqualTo(Birthday.of(LocalDate.of(1991, 8, 15))),
+                  () -> assertThat(result.getPhoneNumber()).isEqualTo("010-2525-2525")
+                 );
+    }
+
     @Test
     @Order(1)
     void getPerson() throws Exception {
@@ -87,6 +301,114 @@ class PersonControllerTest {
                .andExpect(jsonPath("$.birthdayToday").isBoolean());
     }
 
+    @Test
+    void getPersonIfNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/20"))
+               .andExpect(status().isNotFound())
+               .andExpect(jsonPath("$.code").value(404))
+               .andExpect(jsonPath("$.message").value("Person Entity가 존재하지 않습니다."));
+    }
+
+    @Test
+    void deletePersonIfNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/person/20"))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getPersonIfNotModified() throws Exception {
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1"))
+                             .andExpect(status().isOk())
+                             .andExpect(header().exists("Last-Modified"))
+                             .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1")
+                                              .header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(""));
+    }
+
+    @Test
+    void getPersonIfNotModifiedByFormat() throws Exception {     // 같은 version이라도 Accept 형식이 다르면 ETag가 다르고, cache가 형식별로 저장하도록 Vary: Accept
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1"))
+                             .andExpect(header().string("Vary", "Accept"))
+                             .andReturn().getResponse().getHeader("ETag");
+
+        String cborETag = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1")
+                                                                .accept(MediaType.APPLICATION_CBOR))
+                                 .andExpect(header().string("Vary", "Accept"))
+                                 .andReturn().getResponse().getHeader("ETag");
+
+        assertThat(cborETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1")
+                                              .accept(MediaType.APPLICATION_CBOR)
+                                              .header("If-None-Match", eTag))
+               .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1")
+                                              .accept(MediaType.APPLICATION_CBOR)
+                                              .header("If-None-Match", cborETag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void negotiate() {
+        assertThat(PersonController.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(PersonController.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(PersonController.negotiate("application/cbor")).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(PersonController.negotiate("application/json;q=0.5, application/x-jackson-smile")).isEqualTo(new MediaType("application", "x-jackson-smile"));
+        assertThat(PersonController.negotiate("application/cbor;q=0.5, */*")).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void getAllWithVary() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person")
+                                              .accept("application/x-jackson-smile"))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void modifyPersonIfMatch() throws Exception {
+        PersonDto dto = PersonDto.of("martin", "programming", "판교", LocalDate.now(), "programmer", "010-1111-2222");
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/1"))
+                             .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/person/1")
+                                              .header("If-Match", eTag)
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(toJsonString(dto)))
+               .andExpect(status().isOk());
+
+        personRepository.flush();      // version 증가 반영
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/person/1")
+                                              .header("If-Match", eTag)     // 이미 수정되어 version이 다름
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(toJsonString(dto)))
+               .andExpect(status().isPreconditionFailed())
+               .andExpect(jsonPath("$.code").value(412))
+               .andExpect(jsonPath("$.message").value("다른 요청에 의해 이미 변경되었습니다."));
+    }
+
+    @Test
+    void modifyPersonIfMatchIsWeakOrList() throws Exception {     // weak tag는 If-Match를 만족하지 않고, 목록 중 하나라도 현재 version이면 수정
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/person/2"))
+                             .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/person/2")
+                                              .param("name", "david")
+                                              .header("If-Match", "W/" + eTag))
+               .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/person/2")
+                                              .param("name", "david")
+                                              .header("If-Match", "\"999-1\", " + eTag))
+               .andExpect(status().isOk());
+    }
+
     @Test
     @Order(2)
     void postPerson() throws Exception {
@@ -146,6 +468,77 @@ class PersonControllerTest {
                .andExpect(jsonPath("$.message").value("이름은 필수값입니다."));
     }
 
+    @Test
+    void postPeopleAsNdjson() throws Exception {
+        String body = "{\"name\":\"bulk1\",\"hobby\":\"reading\",\"birthday\":\"1990-01-02\"}\n"
+                    + "{\"name\":\"\"}\n"
+                    + "{\"name\":\"bulk2\",\"phoneNumber\":\"010-3333-4444\"}\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person/bulk")
+                                              .contentType(MediaType.APPLICATION_NDJSON)
+                                              .content(body))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(3))
+               .andExpect(jsonPath("$.imported").value(2))
+               .andExpect(jsonPath("$.failed").value(1))
+               .andExpect(jsonPath("$.errors.[0].line").value(2))
+               .andExpect(jsonPath("$.errors.[0].message").value("이름은 필수값입니다."));
+
+        Person result = personRepository.findByName("bulk1").get(0);
+
+        assertAll(() -> assertThat(result.getHobby()).isEqualTo("reading"),
+                  () -> assertThat(result.getBirthday()).isEqualTo(Birthday.of(LocalDate.of(1990, 1, 2))),
+                  () -> assertThat(personRepository.findByName("bulk2").get(0).getPhoneNumber()).isEqualTo("010-3333-4444")
+                 );
+    }
+
+    @Test
+    void postPeopleAsCsv() throws Exception {
+        String body = "name,address,birthday\n"
+                    + "bulk3,Seoul,1995-12-23\n"
+                    + "bulk4,판교,not-a-date\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person/bulk")
+                                              .contentType("text/csv")
+                                              .content(body))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.imported").value(1))
+               .andExpect(jsonPath("$.failed").value(1))
+               .andExpect(jsonPath("$.errors.[0].line").value(3));
+
+        assertThat(personRepository.findByName("bulk3").get(0).getAddress()).isEqualTo("Seoul");
+    }
+
+    @Test
+    void postPeopleAsCsvWithQuotedValues() throws Exception {     // 따옴표 안의 쉼표, 줄바꿈은 값의 일부이고, 오류 줄 번호는 row가 시작하는 줄
+        String body = "name, address, birthday\n"
+                    + "bulk5,\"서울시, 강남구\",1995-12-23\n"
+                    + "\n"
+                    + "bulk6,\"판교\n(본사)\",1990-01-01\n"
+                    + "bulk7,판교,not-a-date\n";
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person/bulk")
+                                              .contentType("text/csv")
+                                              .content(body))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.imported").value(2))
+               .andExpect(jsonPath("$.failed").value(1))
+               .andExpect(jsonPath("$.errors.[0].line").value(6));
+
+        assertAll(() -> assertThat(personRepository.findByName("bulk5").get(0).getAddress()).isEqualTo("서울시, 강남구"),
+                  () -> assertThat(personRepository.findByName("bulk6").get(0).getAddress()).isEqualTo("판교\n(본사)")
+                 );
+    }
+
+    @Test
+    void postPeopleAsCsvIfEmpty() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person/bulk")
+                                              .contentType("text/csv")
+                                              .content(""))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.total").value(0));
+    }
+
     @Test
     @Order(3)
     void modifyPerson() throws Exception {
@@ -187,11 +580,34 @@ class PersonControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.put("/api/person/20")
                                               .contentType(MediaType.APPLICATION_JSON_UTF8)
                                               .content(toJsonString(dto)))
-               .andExpect(status().isBadRequest())
-               .andExpect(jsonPath("$.code").value(400))
+               .andExpect(status().isNotFound())
+               .andExpect(jsonPath("$.code").value(404))
                .andExpect(jsonPath("$.message").value("Person Entity가 존재하지 않습니다."));
     }
 
+    @Test
+    void getPersonByPhoneNumber() throws Exception {      // data.sql의 tony(010-2222-5555) : 기동 시 phone_key를 채우고 index 구성
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/by-phone/+82-10-2222-5555"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.name").value("tony"))
+               .andExpect(jsonPath("$.phoneKey").doesNotExist());
+    }
+
+    @Test
+    void getPersonByPhoneNumberIfNotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/by-phone/010-9999-9999"))
+               .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void postPersonIfPhoneNumberIsTaken() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/person")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content("{\"name\":\"copycat\",\"phoneNumber\":\"01022225555\"}"))
+               .andExpect(status().isConflict())
+               .andExpect(jsonPath("$.message").value("이미 등록된 전화번호입니다."));
+    }
+
     @Test
     @Order(4)
     void modifyName() throws Exception {
@@ -211,22 +627,102 @@ class PersonControllerTest {
         assertTrue(personRepository.findPeopleDeleted().stream().anyMatch(person -> person.getId().equals(1L)));
     }
 
+    @Test
+    void modifyPeople() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/person")
+                                              .param("ids", "2", "3", "7")      // 7(andrew)은 이미 삭제됨
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content("{\"hobby\":\"bulk\",\"birthday\":\"2000-01-02\"}"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.requested").value(3))
+               .andExpect(jsonPath("$.affected").value(2));
+
+        Person result = personRepository.findById(3L).get();
+        assertAll(() -> assertThat(result.getName()).isEqualTo("dennis"),
+                  () -> assertThat(result.getHobby()).isEqualTo("bulk"),
+                  () -> assertThat(result.getBirthday()).isEqualTo(Birthday.of(LocalDate.of(2000, 1, 2)))
+                 );
+        assertThat(personRepository.findById(6L).get().getHobby()).isEqualTo("reading");     // 요청하지 않은 id는 그대로
+    }
+
+    @Test
+    void modifyPeopleInBatch() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/person/batch")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content("[{\"id\":1,\"person\":{\"name\":\"martin\",\"hobby\":\"batch\"}}," +
+                                                       "{\"id\":2,\"person\":{\"name\":\"daniel\"}}," +           // 이름 변경 불가
+                                                       "{\"id\":7,\"person\":{\"name\":\"andrew\"}}," +           // 이미 삭제됨
+                                                       "{\"id\":3,\"person\":{\"name\":\"dennis\",\"job\":\"batch\"}}]"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.requested").value(4))
+               .andExpect(jsonPath("$.updated").value(2))
+               .andExpect(jsonPath("$.failed").value(2))
+               .andExpect(jsonPath("$.results[*].outcome").value(contains("UPDATED", "RENAME_NOT_PERMITTED", "NOT_FOUND", "UPDATED")))
+               .andExpect(jsonPath("$.results[1].message").value("이름 변경이 허용되지 않습니다."));
+
+        assertAll(() -> assertThat(personRepository.findById(1L).get().getHobby()).isEqualTo("batch"),
+                  () -> assertThat(personRepository.findById(2L).get().getName()).isEqualTo("david"),
+                  () -> assertThat(personRepository.findById(3L).get().getJob()).isEqualTo("batch")
+                 );
+    }
+
+    @Test
+    void modifyPeopleIfNameIsGiven() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/person")
+                                              .param("ids", "2", "3")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content("{\"name\":\"bulk\"}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("이름 변경이 허용되지 않습니다."));
+    }
+
+    @Test
+    void deletePeople() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/person")
+                                              .param("ids", "2,3,3,7"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.requested").value(3))
+               .andExpect(jsonPath("$.affected").value(2));
+
+        assertAll(() -> assertThat(personRepository.findById(2L)).isEmpty(),     // 삭제 후 영속성 context가 비워져 @Where 조건으로 다시 조회됨
+                  () -> assertThat(personRepository.findById(3L)).isEmpty(),
+                  () -> assertThat(personRepository.findPeopleDeleted()).hasSize(3)
+                 );
+    }
+
 
 
     /************** birthday-friends **************/
     @Test
     void getBirthdayFriends() throws Exception {
+        personRepository.save(birthdayFriend("today", LocalDate.now().minusYears(30)));
+        personRepository.save(birthdayFriend("tomorrow", LocalDate.now().plusDays(1).minusYears(20)));
+        personRepository.save(birthdayFriend("nextWeek", LocalDate.now().plusDays(7).minusYears(20)));
+
         mockMvc.perform(MockMvcRequestBuilders.get("/api/person/birthday-friends"))
                .andExpect(status().isOk())
-               .andExpect(jsonPath("$.[0].name").value("tom"))
-               .andExpect(jsonPath("$.[1].name").value("tom2"))
-               .andExpect(jsonPath("$.[2].name").value("tom4"))
-               .andExpect(jsonPath("$.[3].name").value("tom5"));
+               .andExpect(jsonPath("$.[*].name", hasItems("today", "tomorrow")))
+               .andExpect(jsonPath("$.[*].name", not(hasItem("nextWeek"))))
+               .andExpect(jsonPath("$.[?(@.name == 'today')].birthdayToday").value(true))
+               .andExpect(jsonPath("$.[?(@.name == 'today')].age").value(31))
+               .andExpect(jsonPath("$.[?(@.name == 'tomorrow')].birthdayToday").value(false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/person/birthday-friends")
+                                              .param("days", "7"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.[*].name", hasItems("today", "tomorrow", "nextWeek")));
     }
     /**********************************************/
 
 
 
+    private Person birthdayFriend(String name, LocalDate birthday) {
+        Person person = new Person(name);
+        person.setBirthday(Birthday.of(birthday));
+
+        return person;
+    }
+
     private String toJsonString(PersonDto personDto) throws JsonProcessingException{
         return objectMapper.writeValueAsString(personDto);
     }
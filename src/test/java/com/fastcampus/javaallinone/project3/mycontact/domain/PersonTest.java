@@ -0,0 +1,33 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonTest {
+
+    @Test
+    void isBirthdayToday() {       // 태어난 날짜(연도 포함)가 아니라 월/일이 오늘과 같으면 생일 (28년 전 : 오늘이 2월 29일이어도 윤년)
+        Person person = new Person("martin");
+        person.setBirthday(Birthday.of(LocalDate.now().minusYears(28)));
+
+        assertThat(person.isBirthdayToday()).isTrue();
+    }
+
+    @Test
+    void isBirthdayTodayIfNotToday() {
+        Person person = new Person("martin");
+        person.setBirthday(Birthday.of(LocalDate.now().plusDays(1).minusYears(28)));
+
+        assertThat(person.isBirthdayToday()).isFalse();
+    }
+
+    @Test
+    void isBirthdayTodayIfBirthdayIsEmpty() {
+        assertThat(new Person("martin").isBirthdayToday()).isFalse();
+    }
+
+}
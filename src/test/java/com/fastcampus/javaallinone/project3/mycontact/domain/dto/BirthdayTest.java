@@ -0,0 +1,61 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BirthdayTest {
+
+    @Test
+    void of() {
+        Birthday birthday = Birthday.of(LocalDate.of(1991, 8, 15));
+
+        assertThat(birthday.getMonthDayOfBirthday()).isEqualTo(815);
+    }
+
+    @Test
+    void monthDaysBetweenAcrossYearEnd() {
+        assertThat(Birthday.monthDaysBetween(LocalDate.of(2021, 12, 31), 1)).containsExactly(101, 1231);
+    }
+
+    @Test
+    void monthDaysBetweenAcrossMonthEnd() {
+        assertThat(Birthday.monthDaysBetween(LocalDate.of(2021, 4, 30), 2)).containsExactly(430, 501, 502);
+    }
+
+    @Test
+    void monthDaysBetweenIfNotLeapYear() {     // 윤년이 아니면 2월 28일에 2월 29일생도 포함
+        assertThat(Birthday.monthDaysBetween(LocalDate.of(2021, 2, 28), 0)).containsExactly(228, 229);
+    }
+
+    @Test
+    void monthDaysBetweenIfLeapYear() {
+        assertThat(Birthday.monthDaysBetween(LocalDate.of(2024, 2, 28), 1)).containsExactly(228, 229);
+        assertThat(Birthday.monthDaysBetween(LocalDate.of(2024, 2, 28), 0)).containsExactly(228);
+    }
+
+    @Test
+    void getAge() {
+        assertThat(Birthday.of(LocalDate.of(1991, 8, 15)).getAge(LocalDate.of(2021, 1, 1))).isEqualTo(31);
+    }
+
+    @Test
+    void isBirthday() {     // 연도와 무관하게 월/일만 비교
+        Birthday birthday = Birthday.of(LocalDate.of(1991, 8, 15));
+
+        assertThat(birthday.isBirthday(LocalDate.of(2021, 8, 15))).isTrue();
+        assertThat(birthday.isBirthday(LocalDate.of(2021, 8, 16))).isFalse();
+    }
+
+    @Test
+    void isBirthdayIfLeapDay() {
+        Birthday birthday = Birthday.of(LocalDate.of(1992, 2, 29));
+
+        assertThat(birthday.isBirthday(LocalDate.of(2021, 2, 28))).isTrue();
+        assertThat(birthday.isBirthday(LocalDate.of(2024, 2, 28))).isFalse();
+        assertThat(birthday.isBirthday(LocalDate.of(2024, 2, 29))).isTrue();
+    }
+
+}
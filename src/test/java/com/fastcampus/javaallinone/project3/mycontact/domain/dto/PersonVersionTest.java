@@ -0,0 +1,71 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersonVersionTest {
+
+    @Test
+    void getETag() {       // 같은 version이라도 날짜가 바뀌면 ETag가 바뀜
+        PersonVersion version = new PersonVersion(3L, null);
+
+        assertThat(version.getETag(LocalDate.of(2021, 8, 15))).isNotEqualTo(version.getETag(LocalDate.of(2021, 8, 16)));
+    }
+
+    @Test
+    void getETagByMediaType() {     // 형식별로 다른 ETag, JSON은 기존 ETag와 같음
+        PersonVersion version = new PersonVersion(3L, null);
+        LocalDate today = LocalDate.of(2021, 8, 15);
+
+        assertThat(version.getETag(today, MediaType.APPLICATION_JSON)).isEqualTo(version.getETag(today));
+        assertThat(version.getETag(today, MediaType.APPLICATION_CBOR)).isNotEqualTo(version.getETag(today));
+        assertThat(version.getETag(today, new MediaType("application", "x-jackson-smile"))).isNotEqualTo(version.getETag(today, MediaType.APPLICATION_CBOR));
+        assertThat(PersonVersion.versionsOf(version.getETag(today, new MediaType("application", "x-jackson-smile")))).containsExactly(3L);
+    }
+
+    @Test
+    void getLastModified() {
+        LocalDateTime updatedAt = LocalDateTime.of(2021, 8, 15, 10, 30);
+        PersonVersion version = new PersonVersion(3L, updatedAt);
+
+        assertThat(version.getLastModified(LocalDate.of(2021, 8, 15))).isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(version.getLastModified(LocalDate.of(2021, 8, 16))).isEqualTo(LocalDate.of(2021, 8, 16).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    void versionsOf() {
+        assertThat(PersonVersion.versionsOf(new PersonVersion(3L, null).getETag(LocalDate.now()))).containsExactly(3L);
+        assertThat(PersonVersion.versionsOf("*")).isNull();
+        assertThat(PersonVersion.versionsOf(null)).isNull();
+    }
+
+    @Test
+    void versionsOfIfWeak() {      // If-Match는 strong 비교만 허용하므로 weak tag는 무시
+        assertThat(PersonVersion.versionsOf("W/\"3-18854\"")).isEmpty();
+        assertThat(PersonVersion.versionsOf("W/\"3-18854\", \"4-18854-cbor\"")).containsExactly(4L);
+    }
+
+    @Test
+    void versionsOfIfList() {      // 쉼표로 구분된 entity-tag 목록의 모든 tag를 읽음
+        assertThat(PersonVersion.versionsOf("\"3-18854\", \"4-18854\",\"5-18855-x-jackson-smile\"")).containsExactly(3L, 4L, 5L);
+        assertThat(PersonVersion.versionsOf("\"abc\", \"6-18854\"")).containsExactly(6L);
+    }
+
+    @Test
+    void versionsOfIfInvalid() {
+        for (String ifMatch : new String[]{"3-18854", "\"3-18854", "W/3", "\"3-18854\" garbage"}) {
+            assertThrows(PreconditionFailedException.class, () -> PersonVersion.versionsOf(ifMatch), ifMatch);
+        }
+
+        assertThat(PersonVersion.versionsOf("\"abc\"")).isEmpty();        // 형식은 맞지만 이 서버가 만든 tag가 아님 (어떤 version과도 일치하지 않음)
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.fastcampus.javaallinone.project3.mycontact.domain.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhoneNumberKeyTest {
+
+    @Test
+    void of() {     // 표기 방식과 관계없이 같은 번호는 같은 key
+        assertThat(PhoneNumberKey.of("010-1111-2222")).isEqualTo(821011112222L);
+        assertThat(PhoneNumberKey.of("(010) 1111 2222")).isEqualTo(821011112222L);
+        assertThat(PhoneNumberKey.of("+82 10-1111-2222")).isEqualTo(821011112222L);
+        assertThat(PhoneNumberKey.of("+82 010-1111-2222")).isEqualTo(821011112222L);
+        assertThat(PhoneNumberKey.of("+82 (0)10 1111 2222")).isEqualTo(821011112222L);
+        assertThat(PhoneNumberKey.of("0082-10-1111-2222")).isEqualTo(821011112222L);
+    }
+
+    @Test
+    void ofLocalNumber() {
+        assertThat(PhoneNumberKey.of("02-123-4567")).isEqualTo(8221234567L);
+        assertThat(PhoneNumberKey.of("1588-1234")).isEqualTo(8215881234L);      // trunk prefix 없는 대표번호
+    }
+
+    @Test
+    void ofOtherCountry() {
+        assertThat(PhoneNumberKey.of("+1 (415) 555-2671")).isEqualTo(14155552671L);
+        assertThat(PhoneNumberKey.of("+44 (0)20 7946 0018")).isEqualTo(442079460018L);
+    }
+
+    @Test
+    void ofIfInvalid() {
+        assertThat(PhoneNumberKey.of(null)).isNull();
+        assertThat(PhoneNumberKey.of("없음")).isNull();
+        assertThat(PhoneNumberKey.of("123")).isNull();
+        assertThat(PhoneNumberKey.of("+1 234 567 890 123 456")).isNull();      // 15자리 초과
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception.handler;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.DuplicatePhoneNumberException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.dto.ErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @BeforeEach
+    void beforeEach() {
+        globalExceptionHandler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(globalExceptionHandler, "errorLogger", new RateLimitedErrorLogger(new SimpleMeterRegistry(), 60_000));
+    }
+
+    @Test
+    void handleDataIntegrityViolationExceptionIfPhoneNumberDuplicated() {      // index 확인을 통과한 뒤 uk_person_phone_key에 걸린 경우 (H2 오류 message)
+        DataIntegrityViolationException exception = new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Unique index or primary key violation: \"PUBLIC.UK_PERSON_PHONE_KEY_INDEX_8 ON PUBLIC.PERSON(PHONE_KEY) VALUES 2\""));
+
+        ErrorResponse response = globalExceptionHandler.handleDataIntegrityViolationException(exception);
+
+        assertThat(response.getCode()).isEqualTo(409);
+        assertThat(response.getMessage()).isEqualTo(DuplicatePhoneNumberException.INSTANCE.getMessage());
+    }
+
+    @Test
+    void handleDataIntegrityViolationException() {
+        ErrorResponse response = globalExceptionHandler.handleDataIntegrityViolationException(new DataIntegrityViolationException("not null"));
+
+        assertThat(response.getCode()).isEqualTo(409);
+        assertThat(response.getMessage()).isEqualTo("저장된 데이터와 충돌하여 저장할 수 없습니다.");
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.fastcampus.javaallinone.project3.mycontact.exception.handler;
+
+import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.RenameNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitedErrorLoggerTest {
+
+    @Test
+    void log() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitedErrorLogger errorLogger = new RateLimitedErrorLogger(meterRegistry, 60_000);
+
+        for (int i = 0; i < 100; i++) {
+            errorLogger.log(PersonNotFoundException.INSTANCE, HttpStatus.NOT_FOUND);
+        }
+        errorLogger.log(RenameNotPermittedException.INSTANCE, HttpStatus.BAD_REQUEST);
+
+        assertThat(meterRegistry.get("mycontact.errors").tags("exception", "PersonNotFoundException", "status", "404").counter().count()).isEqualTo(100);
+        assertThat(meterRegistry.get("mycontact.errors").tags("exception", "RenameNotPermittedException", "status", "400").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire() {     // interval마다 1번만 log, 그 사이 생략한 건수를 다음 log에 포함
+        long interval = TimeUnit.SECONDS.toNanos(1);
+        RateLimitedErrorLogger.Window window = new RateLimitedErrorLogger.Window(new SimpleMeterRegistry().counter("test"));
+        long now = System.nanoTime();
+
+        assertThat(window.tryAcquire(now, interval)).isEqualTo(0);
+        assertThat(window.tryAcquire(now + 1, interval)).isEqualTo(-1);
+        assertThat(window.tryAcquire(now + interval / 2, interval)).isEqualTo(-1);
+        assertThat(window.tryAcquire(now + interval, interval)).isEqualTo(2);
+    }
+
+    @Test
+    void stackless() {
+        assertThat(PersonNotFoundException.INSTANCE.getStackTrace()).isEmpty();
+        assertThat(new PersonNotFoundException().getStackTrace()).isEmpty();
+    }
+
+}
@@ -2,12 +2,17 @@ package com.fastcampus.javaallinone.project3.mycontact.repository;
 
 import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
 import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +41,54 @@ class PersonRepositoryTest {    // JpaRepository를 상속받아 사용하면 
                  );
     }
 
+    @Test
+    void findSummaries() {
+        List<PersonSummary> people = personRepository.findSummaries(PageRequest.of(0, 2, Sort.by("id")));
+
+        assertAll(() -> assertThat(people.size()).isEqualTo(2),
+                  () -> assertThat(people.get(0).getName()).isEqualTo("martin"),
+                  () -> assertThat(people.get(1).getName()).isEqualTo("david")
+                 );
+    }
+
+    @Test
+    void findSummariesSorted() {        // query에 order by가 없으므로 Pageable의 sort를 그대로 사용
+        List<PersonSummary> people = personRepository.findSummaries(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "name")));
+
+        assertThat(people).hasSize(5);
+        assertThat(people).extracting(PersonSummary::getName).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void findSummarySlice() {
+        Slice<PersonSummary> people = personRepository.findSummarySlice(PageRequest.of(2, 3, Sort.by("id")));
+
+        assertAll(() -> assertThat(people.getContent().get(0).getName()).isEqualTo("tom"),      // 삭제된 andrew 제외
+                  () -> assertThat(people.hasNext()).isTrue()
+                 );
+    }
+
+    @Test
+    void findSummariesByIdGreaterThan() {
+        Slice<PersonSummary> people = personRepository.findSummariesByIdGreaterThan(5L, PageRequest.of(0, 2));
+
+        assertAll(() -> assertThat(people.getContent().get(0).getName()).isEqualTo("tony"),
+                  () -> assertThat(people.getContent().get(1).getName()).isEqualTo("tom")      // 삭제된 andrew(id = 7) 제외
+                 );
+    }
+
+    @Test
+    void findSummariesByName() {
+        List<PersonSummary> people = personRepository.findSummariesByName("tony");
+        assertThat(people.size()).isEqualTo(1);
+
+        PersonSummary person = people.get(0);
+        assertAll(() -> assertThat(person.getHobby()).isEqualTo("reading"),
+                  () -> assertThat(person.getBirthday()).isEqualTo(Birthday.of(LocalDate.of(1991, 7, 10))),
+                  () -> assertThat(person.getPhoneNumber()).isEqualTo("010-2222-5555")
+                 );
+    }
+
     @Test
     void findByNameIfDeleted() {
         List<Person> people = personRepository.findByName("andrew");
@@ -52,6 +105,26 @@ class PersonRepositoryTest {    // JpaRepository를 상속받아 사용하면 
                  );
     }
 
+    @Test
+    void saveAllWithSequenceId() {
+        List<Person> people = personRepository.saveAll(List.of(new Person("sequence1"), new Person("sequence2")));
+
+        assertAll(() -> assertThat(people.get(0).getId()).isGreaterThan(12L),      // data.sql에서 사용한 id 이후부터 할당
+                  () -> assertThat(people.get(1).getId()).isEqualTo(people.get(0).getId() + 1)
+                 );
+    }
+
+    @Test
+    void updateAllByIdInWithPhoneNumber() {     // phoneNumber를 변경하면 phoneKey도 함께 변경 (정규화할 수 없는 번호는 null)
+        personRepository.updateAllByIdIn(List.of(1L), null, null, null, "010-1111-2222", 821011112222L, null, null, null, null);
+        personRepository.updateAllByIdIn(List.of(6L), null, null, null, "없음", null, null, null, null, null);
+
+        assertAll(() -> assertThat(personRepository.findById(1L).get().getPhoneKey()).isEqualTo(821011112222L),
+                  () -> assertThat(personRepository.findById(6L).get().getPhoneKey()).isNull(),
+                  () -> assertThat(personRepository.findById(6L).get().getPhoneNumber()).isEqualTo("없음")
+                 );
+    }
+
     @Test
     void findPeopleDeleted() {
         List<Person> people = personRepository.findPeopleDeleted();
@@ -64,15 +137,13 @@ class PersonRepositoryTest {    // JpaRepository를 상속받아 사용하면 
 
     /************** birthday-friends **************/
     @Test
-    void findBirthdayBetweenTodayAndTomorrow() {
-        List<Person> people = personRepository.findBirthdayBetweenTodayAndTomorrow(Birthday.of(LocalDate.now()).getMonthOfBirthday(), Birthday.of(LocalDate.now()).getDayOfBirthday());
+    void findSummariesByMonthDayOfBirthdayIn() {
+        List<PersonSummary> people = personRepository.findSummariesByMonthDayOfBirthdayIn(List.of(815, 710, 1231));
 
-        assertThat(people.size()).isEqualTo(4);
+        assertThat(people.size()).isEqualTo(2);
 
-        assertAll(() -> assertThat(people.get(0).getName()).isEqualTo("tom"),
-                  () -> assertThat(people.get(1).getName()).isEqualTo("tom2"),
-                  () -> assertThat(people.get(2).getName()).isEqualTo("tom4"),
-                  () -> assertThat(people.get(3).getName()).isEqualTo("tom5")
+        assertAll(() -> assertThat(people.get(0).getName()).isEqualTo("martin"),     // data.sql로 저장된 row도 기동 시 month_day_of_birthday가 채워짐
+                  () -> assertThat(people.get(1).getName()).isEqualTo("tony")
                  );
     }
     /**********************************************/
@@ -0,0 +1,72 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.repository.ArchivedPersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Transactional      // batch transaction이 test transaction에 참여하므로 이동한 row는 test 후 rollback됨
+@SpringBootTest
+class PersonArchiveServiceTest {
+
+    @Autowired
+    private PersonArchiveService personArchiveService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ArchivedPersonRepository archivedPersonRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archive() {
+        jdbcTemplate.update("update person set deleted_at = ? where id = 7", LocalDateTime.now().minusDays(31));     // andrew
+
+        int archived = personArchiveService.archive(LocalDateTime.now().minusDays(30));
+
+        assertAll(() -> assertThat(archived).isEqualTo(1),
+                  () -> assertThat(jdbcTemplate.queryForObject("select count(*) from person where id = 7", Long.class)).isZero(),
+                  () -> assertThat(archivedPersonRepository.findById(7L).get().getName()).isEqualTo("andrew")
+                 );
+    }
+
+    @Test
+    void archiveIfRetentionNotExpired() {      // 보관 기간이 지나지 않은 삭제 row와 삭제되지 않은 row는 이동하지 않음
+        personRepository.softDeleteAllByIdIn(List.of(1L));
+
+        int archived = personArchiveService.archive(LocalDateTime.now().minusDays(30));
+
+        assertAll(() -> assertThat(archived).isZero(),
+                  () -> assertThat(archivedPersonRepository.count()).isZero()
+                 );
+    }
+
+    @Test
+    void findPeopleDeletedAfterArchive() {     // person에 남은 삭제 row와 archived_person의 row를 함께 조회
+        personRepository.softDeleteAllByIdIn(List.of(1L));
+        jdbcTemplate.update("update person set deleted_at = ? where id = 7", LocalDateTime.now().minusDays(31));
+
+        personArchiveService.archive(LocalDateTime.now().minusDays(30));
+
+        List<Person> people = personRepository.findPeopleDeleted();
+        assertAll(() -> assertThat(people.stream().map(Person::getName).collect(Collectors.toList())).containsExactly("martin", "andrew"),
+                  () -> assertThat(people).allMatch(Person::isDeleted),
+                  () -> assertThat(people.get(1).getDeletedAt()).isNotNull()
+                 );
+    }
+
+}
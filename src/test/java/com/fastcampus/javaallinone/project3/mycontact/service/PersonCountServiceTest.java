@@ -0,0 +1,65 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional      // counter 증감도 test transaction에 참여하므로 test 후 rollback됨
+@SpringBootTest
+class PersonCountServiceTest {
+
+    @Autowired
+    private PersonCountService personCountService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void beforeEach() {     // 다른 test에서 service를 거치지 않고 저장/삭제한 row가 있을 수 있으므로 먼저 보정
+        personCountService.reconcile();
+    }
+
+    @Test
+    void count() {
+        assertThat(personCountService.count()).isEqualTo(personRepository.count());
+    }
+
+    @Test
+    void countAfterPutAndDelete() {
+        long count = personCountService.count();
+
+        personService.putAll(List.of(PersonDto.of("counted1", null, null, LocalDate.of(1991, 8, 15), null, null),
+                                     PersonDto.of("counted2", null, null, null, null, null)));
+        personService.delete(1L);
+        personService.deleteAll(List.of(2L, 7L));       // 7(andrew)은 이미 삭제됨
+
+        assertThat(personCountService.count()).isEqualTo(count).isEqualTo(personRepository.count());
+    }
+
+    @Test
+    void reconcile() {
+        long count = personCountService.count();
+        jdbcTemplate.update("insert into person(`id`, `name`, `deleted`) values (100, 'unmanaged', false)");
+
+        assertThat(personCountService.reconcile()).isEqualTo(1);
+        assertThat(personCountService.count()).isEqualTo(count + 1);
+        assertThat(personCountService.reconcile()).isZero();
+    }
+
+}
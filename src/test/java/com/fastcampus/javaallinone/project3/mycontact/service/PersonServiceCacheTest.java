@@ -0,0 +1,114 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.configuration.CacheConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PersonServiceCacheTest {     // cache put/evict는 commit 이후에 반영되므로 @Transactional 없이 검증하고, 저장한 data는 테스트 후 직접 삭제
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PersonCountService personCountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long id;
+
+    @BeforeEach
+    void beforeEach() {
+        personService.put(PersonDto.of("cached", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222"));
+
+        id = personRepository.findByName("cached").get(0).getId();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("delete from person where id = ?", id);
+        personCountService.reconcile();     // service를 거치지 않고 삭제했으므로 person counter 보정
+        cacheManager.getCache(CacheConfig.PERSON_CACHE).evict(id);
+    }
+
+    @Test
+    void getPerson() {
+        long hitCount = stats().hitCount();
+
+        personService.getPerson(id);
+        personService.getPerson(id);
+
+        assertThat(stats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    void getPersonAfterModify() {
+        personService.getPerson(id);
+
+        personService.modify(id, "cachedModified", null);
+
+        assertThat(personService.getPerson(id).getName()).isEqualTo("cachedModified");
+    }
+
+    @Test
+    void getPersonAfterDelete() {
+        personService.getPerson(id);
+
+        personService.delete(id);
+
+        assertThat(personService.getPerson(id)).isNull();    // 삭제된 Person은 cache에서도 조회되지 않음
+    }
+
+    @Test
+    void getPersonWithVersion() {
+        long hitCount = stats().hitCount();
+
+        personService.getPerson(id);
+        Person person = personService.getPerson(id, personService.getPersonVersion(id).getVersion());
+
+        assertThat(person.getName()).isEqualTo("cached");
+        assertThat(stats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    void getPersonWithVersionIfCacheIsStale() {
+        Person stale = personService.getPerson(id);
+
+        personService.modify(id, "cachedModified", null);
+        cacheManager.getCache(CacheConfig.PERSON_CACHE).put(id, stale);     // 조회 transaction의 cache put이 수정 후 evict보다 늦게 반영된 상황
+
+        Person person = personService.getPerson(id, personService.getPersonVersion(id).getVersion());
+
+        assertThat(person.getName()).isEqualTo("cachedModified");
+        assertThat(personService.getPerson(id).getName()).isEqualTo("cachedModified");      // cache도 새 version으로 교체됨
+    }
+
+    private CacheStats stats() {
+        TransactionAwareCacheDecorator cache = (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.PERSON_CACHE);
+
+        return ((CaffeineCache) cache.getTargetCache()).getNativeCache().stats();
+    }
+
+}
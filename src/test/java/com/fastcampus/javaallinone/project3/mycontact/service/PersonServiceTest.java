@@ -1,11 +1,24 @@
 package com.fastcampus.javaallinone.project3.mycontact.service;
 
+import com.fastcampus.javaallinone.project3.mycontact.configuration.CacheConfig;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchItem;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBatchResult;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonBulkResult;
 import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
 import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
 import com.fastcampus.javaallinone.project3.mycontact.domain.dto.Birthday;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PersonSummary;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonDeletedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonSavedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.exception.DuplicatePhoneNumberException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.PersonNotFoundException;
+import com.fastcampus.javaallinone.project3.mycontact.exception.PreconditionFailedException;
 import com.fastcampus.javaallinone.project3.mycontact.exception.RenameNotPermittedException;
 import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.NameSuggestIndex;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.PersonSearchIndex;
+import com.fastcampus.javaallinone.project3.mycontact.service.index.PhoneNumberIndex;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,14 +26,22 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,27 +56,108 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
     @Mock           // Autowired 하는 class
     private PersonRepository personRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private PersonCountService personCountService;
+
+    @Mock
+    private NameSuggestIndex nameSuggestIndex;
+
+    @Mock
+    private PersonSearchIndex personSearchIndex;
+
+    @Mock
+    private PhoneNumberIndex phoneNumberIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Test
     void getAll() {
-        when(personRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Lists.newArrayList(new Person("martin"), new Person("dennis"), new Person("tony"))));
+        when(personRepository.findSummaries(any(Pageable.class))).thenReturn(Lists.newArrayList(summary("martin", null), summary("dennis", null), summary("tony", null)));
+        when(personCountService.count()).thenReturn(11L);
 
-        Page<Person> result = personService.getAll(PageRequest.of(0, 3));   // Pageable Interface를 구현한 PageRequest 사용
+        Page<PersonSummary> result = personService.getAll(PageRequest.of(0, 3));   // Pageable Interface를 구현한 PageRequest 사용
 
+        assertThat(result.getTotalElements()).isEqualTo(11L);      // count(*) 대신 counter 값 사용
         assertThat(result.getNumberOfElements()).isEqualTo(3);
         assertThat(result.getContent().get(0).getName()).isEqualTo("martin");
         assertThat(result.getContent().get(1).getName()).isEqualTo("dennis");
         assertThat(result.getContent().get(2).getName()).isEqualTo("tony");
     }
 
+    @Test
+    void getAllIfLastPage() {      // 마지막 page는 조회한 수로 전체 수를 알 수 있으므로 counter도 조회하지 않음
+        when(personRepository.findSummaries(any(Pageable.class))).thenReturn(Lists.newArrayList(summary("martin", null)));
+
+        Page<PersonSummary> result = personService.getAll(PageRequest.of(1, 3));
+
+        assertThat(result.getTotalElements()).isEqualTo(4L);
+        verify(personCountService, never()).count();
+    }
+
+    @Test
+    void getAllWithoutCount() {
+        when(personRepository.findSummarySlice(any(Pageable.class))).thenReturn(new SliceImpl<>(Lists.newArrayList(summary("martin", null), summary("dennis", null)), PageRequest.of(0, 2), true));
+
+        Slice<PersonSummary> result = personService.getAllWithoutCount(PageRequest.of(0, 2));
+
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent().get(1).getName()).isEqualTo("dennis");
+        verifyNoInteractions(personCountService);
+    }
+
+    @Test
+    void getAllAfter() {
+        when(personRepository.findSummariesByIdGreaterThan(eq(3L), any(Pageable.class))).thenReturn(new SliceImpl<>(Lists.newArrayList(summary("sophia", LocalDate.now().minusYears(30)), summary("benny", null)), PageRequest.of(0, 2), true));
+
+        Slice<PersonSummary> result = personService.getAllAfter(3L, 2);
+
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent().get(0).getName()).isEqualTo("sophia");
+        assertThat(result.getContent().get(0).getAge()).isEqualTo(31);     // 조회 후 age, birthdayToday를 계산하여 반환
+        verify(personRepository).findSummariesByIdGreaterThan(3L, PageRequest.of(0, 2));
+    }
+
     @Test
     void getPeopleByName() {
-        when(personRepository.findByName("martin")).thenReturn(Lists.newArrayList(new Person("martin")));   // if문과 같으나 실제로 실행되는것이 아니라 실행되었다고 가정함
+        when(personRepository.findSummariesByName("martin")).thenReturn(Lists.newArrayList(summary("martin", LocalDate.now().minusYears(30))));   // if문과 같으나 실제로 실행되는것이 아니라 실행되었다고 가정함
                                                                                                                   // PersonRepository에서 Query문을 변경하여도 오류 없이 정상적으로 실행함
 
-        List<Person> result = personService.getPeopleByName("martin");
+        List<PersonSummary> result = personService.getPeopleByName("martin");
 
         assertThat(result.size()).isEqualTo(1);
         assertThat(result.get(0).getName()).isEqualTo("martin");
+        assertThat(result.get(0).getAge()).isEqualTo(31);      // 조회 후 age, birthdayToday를 계산하여 반환
+        assertThat(result.get(0).isBirthdayToday()).isTrue();
+    }
+
+    @Test
+    void suggest() {
+        when(nameSuggestIndex.suggest("ㅁ", 50)).thenReturn(Lists.newArrayList(PersonSuggestion.of(1L, "martin")));
+
+        List<PersonSuggestion> result = personService.suggest("ㅁ", 100);     // 최대 50건으로 제한
+
+        assertThat(result.get(0).getName()).isEqualTo("martin");
+    }
+
+    @Test
+    void search() {
+        when(personSearchIndex.search("판교", 20)).thenReturn(Lists.newArrayList(2L, 1L));
+        when(personRepository.findAllById(Lists.newArrayList(2L, 1L))).thenReturn(Lists.newArrayList(person(1L, "martin"), person(2L, "dennis")));
+
+        List<Person> result = personService.search("판교", 20);
+
+        assertThat(result.get(0).getName()).isEqualTo("dennis");    // index의 순위대로 반환
+        assertThat(result.get(1).getName()).isEqualTo("martin");
     }
 
     @Test
@@ -81,43 +183,61 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
         personService.put(mockPersonDto());     // return 값이 없을때는 호출이 성공 또는 실패하였는지에 대해서만 검증
 
         verify(personRepository, times(1)).save(argThat(new IsPersonWillBeInserted()));     // personService.put(dto)를 호출하여 실제로 personRepository.save(dto)가 실행되는지에 대한 검증
+        verify(eventPublisher, times(1)).publishEvent(any(PersonSavedEvent.class));         // 검색용 index 갱신
+    }
+
+    @Test
+    void putAll() {
+        personService.putAll(Lists.newArrayList(mockPersonDto(), PersonDto.of("david", "programming", "판교", LocalDate.now(), "programmer", "010-3333-4444")));
+
+        verify(personRepository, times(1)).saveAll(argThat(new IsPeopleWillBeInserted()));     // 한 번의 saveAll 호출로 저장되어야 batch insert가 가능
     }
 
     @Test
     void modifyIfPersonNotFound() {     // modify에 대한 test는 분기별로 검증이 필요(1. id의 존재)
         when(personRepository.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(PersonNotFoundException.class, () -> personService.modify(1L, mockPersonDto()));
+        assertThrows(PersonNotFoundException.class, () -> personService.modify(1L, mockPersonDto(), null));
     }
 
     @Test
     void modifyIfNameIsDifferent() {    // modify에 대한 test는 분기별로 검증이 필요(2. name의 일치)
         when(personRepository.findById(1L)).thenReturn(Optional.of(new Person("tony")));
 
-        assertThrows(RenameNotPermittedException.class, () -> personService.modify(1L, mockPersonDto()));
+        assertThrows(RenameNotPermittedException.class, () -> personService.modify(1L, mockPersonDto(), null));
     }
 
     @Test
     void modify() {     // modify에 대한 test는 분기별로 검증이 필요(3. modify가 정상 실행되었는지)
         when(personRepository.findById(1L)).thenReturn(Optional.of(new Person("martin")));
 
-        personService.modify(1L, mockPersonDto());
+        personService.modify(1L, mockPersonDto(), null);
 
         verify(personRepository, times(1)).save(argThat(new IsPersonWillBeUpdated()));  // personDto가 정상적으로 person 객체에 set 되었는지 확인
     }
 
+    @Test
+    void modifyIfVersionIsDifferent() {    // If-Match로 전달받은 version과 현재 version이 다르면 수정하지 않음
+        Person person = new Person("martin");
+        person.setVersion(2L);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(person));
+
+        assertThrows(PreconditionFailedException.class, () -> personService.modify(1L, mockPersonDto(), Set.of(1L)));
+        verify(personRepository, never()).save(any(Person.class));
+    }
+
     @Test
     void modifyByNameIfPersonNotFound() {
         when(personRepository.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(PersonNotFoundException.class, () -> personService.modify(1L, "daniel"));
+        assertThrows(PersonNotFoundException.class, () -> personService.modify(1L, "daniel", null));
     }
 
     @Test
     void modifyByName() {
         when(personRepository.findById(1L)).thenReturn(Optional.of(new Person("martin")));
 
-        personService.modify(1L, "daniel");
+        personService.modify(1L, "daniel", null);
 
         verify(personRepository, times(1)).save(argThat(new IsPersonNameWillBeUpdated()));
     }
@@ -136,6 +256,122 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
         personService.delete(1L);
 
         verify(personRepository, times(1)).save(argThat(new IsPersonWillBeDeleted()));  // delete가 아닌 save인 이유 : PersonService의 delete method에서 data 삭제 과정을 변경하였기 때문(deleted flag를 사용하여 true/false로 check)
+        verify(eventPublisher, times(1)).publishEvent(PersonDeletedEvent.of(1L));
+        verify(personCountService).add(-1);
+    }
+
+    @Test
+    void putIfPhoneNumberIsTaken() {       // 표기가 달라도 정규화한 번호가 같으면 중복
+        when(phoneNumberIndex.find(821011112222L)).thenReturn(6L);
+        when(personRepository.existsById(6L)).thenReturn(true);
+
+        assertThrows(DuplicatePhoneNumberException.class, () -> personService.put(PersonDto.of("martin", null, null, null, null, "+82 10-1111-2222")));
+        verify(personRepository, never()).save(any(Person.class));
+    }
+
+    @Test
+    void putIfPhoneNumberIndexIsStale() {      // index에는 있지만 DB에서는 이미 삭제된 Person의 번호
+        when(phoneNumberIndex.find(821011112222L)).thenReturn(6L);
+        when(personRepository.existsById(6L)).thenReturn(false);
+
+        personService.put(mockPersonDto());
+
+        verify(personRepository).save(argThat(person -> person.getPhoneKey() == 821011112222L));
+    }
+
+    @Test
+    void putAllIfPhoneNumberIsDuplicated() {
+        assertThrows(DuplicatePhoneNumberException.class, () -> personService.putAll(Lists.newArrayList(mockPersonDto(), PersonDto.of("david", null, null, null, null, "01011112222"))));
+        verify(personRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void modifyIfPhoneNumberIsOwn() {       // 자기 자신의 번호로 수정
+        when(personRepository.findById(1L)).thenReturn(Optional.of(new Person("martin")));
+        when(phoneNumberIndex.find(821011112222L)).thenReturn(1L);
+
+        personService.modify(1L, mockPersonDto(), null);
+
+        verify(personRepository).save(any(Person.class));
+    }
+
+    @Test
+    void getPersonIdByPhoneNumber() {
+        when(phoneNumberIndex.find(821011112222L)).thenReturn(1L);
+
+        assertThat(personService.getPersonIdByPhoneNumber("010.1111.2222")).isEqualTo(1L);
+        assertThat(personService.getPersonIdByPhoneNumber("unknown")).isNull();
+    }
+
+    @Test
+    void modifyAllIfPhoneNumberIsGivenForMany() {      // 같은 번호를 여러 명에게 줄 수 없음
+        assertThrows(DuplicatePhoneNumberException.class, () -> personService.modifyAll(Lists.newArrayList(1L, 2L), PersonDto.of(null, null, null, null, null, "010-1111-2222")));
+    }
+
+    @Test
+    void modifyBatch() {       // 한 번의 IN 조회로 대상을 찾고 건별로 결과 반환
+        when(cacheManager.getCache(CacheConfig.PERSON_CACHE)).thenReturn(cache);
+        when(personRepository.findAllById(Lists.newArrayList(1L, 2L, 3L))).thenReturn(Lists.newArrayList(person(1L, "martin"), person(2L, "david")));
+
+        PersonBatchResult result = personService.modifyBatch(Lists.newArrayList(PersonBatchItem.of(1L, PersonDto.of("martin", "reading", null, null, null, null)),
+                                                                                PersonBatchItem.of(2L, PersonDto.of("daniel", "reading", null, null, null, null)),
+                                                                                PersonBatchItem.of(3L, PersonDto.of("tony", "reading", null, null, null, null))));
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(PersonBatchResult.ItemResult::getOutcome)
+                                       .containsExactly(PersonBatchResult.Outcome.UPDATED, PersonBatchResult.Outcome.RENAME_NOT_PERMITTED, PersonBatchResult.Outcome.NOT_FOUND);
+        verify(personRepository, times(1)).findAllById(anyIterable());
+        verify(personRepository, times(1)).flush();
+        verify(personRepository, never()).save(any(Person.class));      // 변경 감지로 update
+        verify(cache).evict(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(PersonSavedEvent.class));
+    }
+
+    @Test
+    void modifyBatchIfPhoneNumberIsDuplicatedInRequest() {
+        when(cacheManager.getCache(CacheConfig.PERSON_CACHE)).thenReturn(cache);
+        when(personRepository.findAllById(Lists.newArrayList(1L, 2L))).thenReturn(Lists.newArrayList(person(1L, "martin"), person(2L, "david")));
+
+        PersonBatchResult result = personService.modifyBatch(Lists.newArrayList(PersonBatchItem.of(1L, PersonDto.of("martin", null, null, null, null, "010-1111-2222")),
+                                                                                PersonBatchItem.of(2L, PersonDto.of("david", null, null, null, null, "01011112222"))));
+
+        assertThat(result.getResults()).extracting(PersonBatchResult.ItemResult::getOutcome)
+                                       .containsExactly(PersonBatchResult.Outcome.UPDATED, PersonBatchResult.Outcome.DUPLICATE_PHONE_NUMBER);
+    }
+
+    @Test
+    void modifyAllIfNameIsGiven() {     // 이름은 일괄 변경 불가
+        assertThrows(RenameNotPermittedException.class, () -> personService.modifyAll(Lists.newArrayList(1L, 2L), mockPersonDto()));
+    }
+
+    @Test
+    void modifyAll() {
+        when(cacheManager.getCache(CacheConfig.PERSON_CACHE)).thenReturn(cache);
+        when(personRepository.updateAllByIdIn(Lists.newArrayList(1L, 2L), "programming", null, null, null, null, null, null, null, null)).thenReturn(2);
+        when(personRepository.findAllById(Lists.newArrayList(1L, 2L))).thenReturn(Lists.newArrayList(person(1L, "martin"), person(2L, "david")));
+
+        PersonBulkResult result = personService.modifyAll(Lists.newArrayList(1L, 2L, 2L), PersonDto.of(null, "programming", "", null, null, null));
+
+        assertThat(result).isEqualTo(PersonBulkResult.of(2, 2));
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(eventPublisher, times(2)).publishEvent(any(PersonSavedEvent.class));
+    }
+
+    @Test
+    void deleteAll() {     // 1000건 단위로 나누어 update
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().collect(Collectors.toList());
+        when(cacheManager.getCache(CacheConfig.PERSON_CACHE)).thenReturn(cache);
+        when(personRepository.softDeleteAllByIdIn(anyCollection())).thenReturn(1000, 499);
+
+        PersonBulkResult result = personService.deleteAll(ids);
+
+        assertThat(result).isEqualTo(PersonBulkResult.of(1500, 1499));
+        verify(personRepository).softDeleteAllByIdIn(ids.subList(0, 1000));
+        verify(personRepository).softDeleteAllByIdIn(ids.subList(1000, 1500));
+        verify(cache, times(1500)).evict(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(PersonDeletedEvent.of(1500L));
+        verify(personCountService).add(-1499);     // 실제로 삭제된 수만큼 감소
     }
 
 
@@ -143,9 +379,9 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
     /************** birthday-friends **************/
     @Test
     void getBirthdayFriends() {
-        when(personRepository.findBirthdayBetweenTodayAndTomorrow(LocalDate.now().getMonthValue(), LocalDate.now().getDayOfMonth())).thenReturn(Lists.newArrayList(new Person("tom"), new Person("tom2"), new Person("tom4"), new Person("tom5")));
+        when(personRepository.findSummariesByMonthDayOfBirthdayIn(Birthday.monthDaysBetween(LocalDate.now(), 1))).thenReturn(Lists.newArrayList(summary("tom", null), summary("tom2", null), summary("tom4", null), summary("tom5", null)));
 
-        List<Person> result = personService.getBirthdayFriends();
+        List<PersonSummary> result = personService.getBirthdayFriends(1);
 
         assertThat(result.size()).isEqualTo(4);
         assertThat(result.get(0).getName()).isEqualTo("tom");
@@ -157,6 +393,17 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
 
 
 
+    private PersonSummary summary(String name, LocalDate birthday) {
+        return new PersonSummary(null, name, null, null, birthday != null ? Birthday.of(birthday) : null, null, null, false);
+    }
+
+    private Person person(Long id, String name) {
+        Person person = new Person(name);
+        person.setId(id);
+
+        return person;
+    }
+
     private PersonDto mockPersonDto() {
         return PersonDto.of("martin", "programming", "판교", LocalDate.now(), "programmer", "010-1111-2222");
     }
@@ -178,6 +425,15 @@ class PersonServiceTest {   // 해당 class에서 ctrl + shift + t 단축기를
         }
     }
 
+    private static class IsPeopleWillBeInserted implements ArgumentMatcher<List<Person>> {
+
+        @Override
+        public boolean matches(List<Person> people) {
+            return people.size() == 2 && new IsPersonWillBeInserted().matches(people.get(0))
+                    && people.get(1).getPhoneKey() == 821033334444L;    // 전화번호는 중복 불가이므로 두 번째는 다른 번호
+        }
+    }
+
     private static class IsPersonWillBeUpdated implements ArgumentMatcher<Person> {
 
         @Override
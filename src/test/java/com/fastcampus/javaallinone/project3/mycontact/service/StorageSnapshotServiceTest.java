@@ -0,0 +1,89 @@
+package com.fastcampus.javaallinone.project3.mycontact.service;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonDto;
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.SnapshotResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("persistent")
+class StorageSnapshotServiceTest {
+
+    private static final Path STORAGE = createTempDirectory();
+
+    @Autowired
+    private StorageSnapshotService storageSnapshotService;
+
+    @Autowired
+    private PersonService personService;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("mycontact.storage.directory", () -> STORAGE.resolve("db").toString());
+        registry.add("mycontact.storage.snapshot-retain", () -> 2);
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        FileSystemUtils.deleteRecursively(STORAGE);
+    }
+
+    @Test
+    void createAndRestore() throws Exception {
+        personService.put(PersonDto.of("snapshot", "programming", "판교", LocalDate.of(1991, 8, 15), "programmer", "010-1111-2222"));
+
+        SnapshotResult result = storageSnapshotService.create();
+        assertThat(Paths.get(result.getFile())).exists();
+        assertThat(result.getBytes()).isPositive();
+
+        Path restored = STORAGE.resolve("restored");
+        StorageSnapshotService.restoreIfEmpty(restored.toString(), STORAGE.resolve("db/snapshots").toString(), null);     // 가장 최근 snapshot으로 복원
+
+        assertThat(countByName(restored, "snapshot")).isEqualTo(1);
+    }
+
+    @Test
+    void retain() {
+        for (int i = 0; i < 3; i++) {
+            storageSnapshotService.create();
+        }
+
+        assertThat(storageSnapshotService.list()).hasSize(2);
+    }
+
+    private static int countByName(Path directory, String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + directory.toAbsolutePath() + "/" + StorageSnapshotService.DATABASE_NAME, "sa", "");
+             ResultSet resultSet = connection.createStatement().executeQuery("select count(*) from person where name = '" + name + "'")) {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("mycontact-storage");
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putAndGet() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(821011112222L, 1L);
+        map.put(821011112222L, 2L);
+
+        assertThat(map.get(821011112222L, -1L)).isEqualTo(2L);
+        assertThat(map.get(821099998888L, -1L)).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove() {
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 10L);
+
+        assertThat(map.remove(1L)).isTrue();
+        assertThat(map.remove(1L)).isFalse();
+        assertThat(map.remove(0L)).isFalse();
+        assertThat(map.get(1L, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    void compareWithHashMap() {     // 확장(rehash)과 삭제(backward shift)가 섞여도 HashMap과 같은 결과
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                map.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(expected.getOrDefault(key, -1L));
+        }
+    }
+
+}
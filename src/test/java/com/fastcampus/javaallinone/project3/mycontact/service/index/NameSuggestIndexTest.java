@@ -0,0 +1,74 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSuggestIndexTest {
+
+    private NameSuggestIndex nameSuggestIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        nameSuggestIndex = new NameSuggestIndex();
+        nameSuggestIndex.index(person(1L, "김민수"));
+        nameSuggestIndex.index(person(2L, "김민지"));
+        nameSuggestIndex.index(person(3L, "강민수"));
+        nameSuggestIndex.index(person(4L, "Martin"));
+    }
+
+    @Test
+    void suggestByPrefix() {
+        assertThat(names(nameSuggestIndex.suggest("김민", 10))).containsExactly("김민수", "김민지");
+        assertThat(names(nameSuggestIndex.suggest("MAR", 10))).containsExactly("Martin");     // 대소문자 구분 없음
+    }
+
+    @Test
+    void suggestByChosung() {
+        assertThat(names(nameSuggestIndex.suggest("ㄱㅁㅅ", 10))).containsExactlyInAnyOrder("김민수", "강민수");
+        assertThat(names(nameSuggestIndex.suggest("김ㅁㅈ", 10))).containsExactly("김민지");    // 음절과 초성이 섞인 입력
+    }
+
+    @Test
+    void suggestIfDecomposed() {     // 자모가 분리된(NFD) 입력도 같은 이름으로 조회
+        assertThat(names(nameSuggestIndex.suggest("\u1100\u1175\u11B7", 10))).containsExactly("김민수", "김민지");
+    }
+
+    @Test
+    void suggestWithSize() {
+        assertThat(nameSuggestIndex.suggest("ㄱ", 2)).hasSize(2);
+    }
+
+    @Test
+    void indexIfRenamed() {
+        nameSuggestIndex.index(person(1L, "박민수"));
+
+        assertThat(names(nameSuggestIndex.suggest("김민", 10))).containsExactly("김민지");
+        assertThat(names(nameSuggestIndex.suggest("ㅂㅁ", 10))).containsExactly("박민수");
+    }
+
+    @Test
+    void remove() {
+        nameSuggestIndex.remove(2L);
+
+        assertThat(names(nameSuggestIndex.suggest("김민", 10))).containsExactly("김민수");
+    }
+
+    private static Person person(Long id, String name) {
+        Person person = new Person(name);
+        person.setId(id);
+
+        return person;
+    }
+
+    private static List<String> names(List<PersonSuggestion> suggestions) {
+        return suggestions.stream().map(PersonSuggestion::getName).collect(Collectors.toList());
+    }
+
+}
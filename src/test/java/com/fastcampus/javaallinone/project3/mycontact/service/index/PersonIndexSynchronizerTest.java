@@ -0,0 +1,110 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.controller.dto.PersonSuggestion;
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import com.fastcampus.javaallinone.project3.mycontact.domain.dto.PhoneNumberKey;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonDeletedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.domain.event.PersonSavedEvent;
+import com.fastcampus.javaallinone.project3.mycontact.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersonIndexSynchronizerTest {
+
+    @InjectMocks
+    private PersonIndexSynchronizer personIndexSynchronizer;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final NameSuggestIndex nameSuggestIndex = new NameSuggestIndex();
+
+    private final PhoneNumberIndex phoneNumberIndex = new PhoneNumberIndex();
+
+    @BeforeEach
+    void beforeEach() {
+        ReflectionTestUtils.setField(personIndexSynchronizer, "indexes", List.of(nameSuggestIndex, phoneNumberIndex));
+
+        nameSuggestIndex.index(person(9L, "tony", "010-9999-9999"));     // 재구성 전부터 index에 있던 (DB에서는 이미 없는) Person
+        phoneNumberIndex.index(person(9L, "tony", "010-9999-9999"));
+    }
+
+    @Test
+    void rebuild() {
+        when(personRepository.streamAll()).thenReturn(Stream.of(person(1L, "martin", "010-1111-2222"), person(2L, "dennis", null)));
+
+        personIndexSynchronizer.rebuild();
+
+        assertThat(names(nameSuggestIndex.suggest("tony", 10))).isEmpty();
+        assertThat(names(nameSuggestIndex.suggest("martin", 10))).containsExactly("martin");
+        assertThat(phoneNumberIndex.find(PhoneNumberKey.of("010-9999-9999"))).isNull();
+        assertThat(phoneNumberIndex.find(PhoneNumberKey.of("010-1111-2222"))).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuildIfChangedDuringRebuild() {     // 구성 중에는 기존 index로 조회하고, 그 사이 commit된 변경은 교체된 index에도 반영
+        Stream<Person> people = Stream.of(person(1L, "martin", "010-1111-2222"), person(2L, "dennis", null))
+                                      .peek(person -> {
+                                          if (person.getId() == 2L) {
+                                              assertThat(names(nameSuggestIndex.suggest("tony", 10))).containsExactly("tony");
+                                              assertThat(phoneNumberIndex.find(PhoneNumberKey.of("010-9999-9999"))).isEqualTo(9L);
+
+                                              personIndexSynchronizer.onPersonDeleted(PersonDeletedEvent.of(1L));
+                                              personIndexSynchronizer.onPersonSaved(PersonSavedEvent.of(person(3L, "sophia", "010-3333-4444")));
+                                          }
+                                      });
+        when(personRepository.streamAll()).thenReturn(people);
+
+        personIndexSynchronizer.rebuild();
+
+        assertThat(names(nameSuggestIndex.suggest("martin", 10))).isEmpty();      // cursor로 읽은 뒤 삭제됨
+        assertThat(names(nameSuggestIndex.suggest("sophia", 10))).containsExactly("sophia");
+        assertThat(names(nameSuggestIndex.suggest("dennis", 10))).containsExactly("dennis");
+        assertThat(phoneNumberIndex.find(PhoneNumberKey.of("010-1111-2222"))).isNull();
+        assertThat(phoneNumberIndex.find(PhoneNumberKey.of("010-3333-4444"))).isEqualTo(3L);
+    }
+
+    @Test
+    void onPersonSavedAfterRebuild() {
+        when(personRepository.streamAll()).thenReturn(Stream.empty());
+        personIndexSynchronizer.rebuild();
+
+        personIndexSynchronizer.onPersonSaved(PersonSavedEvent.of(person(4L, "benny", null)));
+
+        assertThat(names(nameSuggestIndex.suggest("benny", 10))).containsExactly("benny");
+    }
+
+    private static Person person(Long id, String name, String phoneNumber) {
+        Person person = new Person(name);
+        person.setId(id);
+        person.setPhoneNumber(phoneNumber);
+
+        return person;
+    }
+
+    private static List<String> names(List<PersonSuggestion> suggestions) {
+        return suggestions.stream().map(PersonSuggestion::getName).collect(Collectors.toList());
+    }
+
+}
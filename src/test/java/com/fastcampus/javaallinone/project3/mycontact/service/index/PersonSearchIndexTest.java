@@ -0,0 +1,100 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonSearchIndexTest {
+
+    private PersonSearchIndex personSearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        personSearchIndex = new PersonSearchIndex();
+        personSearchIndex.index(person(1L, "programming", "판교", "programmer"));
+        personSearchIndex.index(person(2L, "reading", "서울시 강남구", "officer"));
+        personSearchIndex.index(person(3L, "강남 맛집 탐방", "부산", "programmer"));
+    }
+
+    @Test
+    void tokenize() {
+        assertThat(PersonSearchIndex.tokenize("서울시 강남구, Java-Developer 2"))
+                .containsExactly("서울", "울시", "강남", "남구", "java", "developer", "2");
+    }
+
+    @Test
+    void search() {
+        assertThat(personSearchIndex.search("PROGRAMMER", 10)).containsExactly(1L, 3L);
+        assertThat(personSearchIndex.search("판교", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void searchRanked() {      // hobby(가중치 2)에서 일치한 3번이 address(가중치 1)에서 일치한 2번보다 앞
+        assertThat(personSearchIndex.search("강남", 10)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void searchWithSize() {
+        assertThat(personSearchIndex.search("programmer 강남", 1)).hasSize(1);
+    }
+
+    @Test
+    void indexIfModified() {
+        personSearchIndex.index(person(1L, "programming", "제주", "designer"));
+
+        assertThat(personSearchIndex.search("판교", 10)).isEmpty();
+        assertThat(personSearchIndex.search("designer", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void remove() {
+        personSearchIndex.remove(3L);
+
+        assertThat(personSearchIndex.search("programmer 강남", 10)).containsExactly(1L, 2L);     // job(가중치 3)에서 일치한 1번이 먼저
+    }
+
+    @Test
+    void searchIfIndexedOutOfOrder() {     // posting은 id 순으로 정렬되어 있어야 merge 결과가 맞음, 점수가 같으면 id가 작은 순
+        PersonSearchIndex index = new PersonSearchIndex();
+        for (long id : new long[]{50, 10, 40, 20, 30, 60}) {
+            index.index(person(id, null, "판교", id % 20 == 0 ? "designer" : null));
+        }
+
+        index.remove(30L);
+        index.remove(60L);
+
+        assertThat(index.search("판교", 10)).containsExactly(10L, 20L, 40L, 50L);
+        assertThat(index.search("판교 designer", 10)).containsExactly(20L, 40L, 10L, 50L);
+        assertThat(index.search("판교 designer", 3)).containsExactly(20L, 40L, 10L);
+    }
+
+    @Test
+    void searchIfRemovedAll() {
+        for (long id = 1; id <= 1000; id++) {
+            personSearchIndex.index(person(id, "climbing", null, null));
+        }
+        for (long id = 1000; id >= 1; id -= 2) {
+            personSearchIndex.remove(id);
+        }
+
+        List<Long> result = personSearchIndex.search("climbing", 1000);
+
+        assertThat(result).hasSize(500).isSorted();
+        assertThat(result).allMatch(id -> id % 2 == 1);
+    }
+
+    private static Person person(Long id, String hobby, String address, String job) {
+        Person person = new Person("name" + id);
+        person.setId(id);
+        person.setHobby(hobby);
+        person.setAddress(address);
+        person.setJob(job);
+
+        return person;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.fastcampus.javaallinone.project3.mycontact.service.index;
+
+import com.fastcampus.javaallinone.project3.mycontact.domain.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhoneNumberIndexTest {
+
+    private PhoneNumberIndex phoneNumberIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        phoneNumberIndex = new PhoneNumberIndex();
+        phoneNumberIndex.index(person(1L, "010-1111-2222"));
+        phoneNumberIndex.index(person(2L, "02-123-4567"));
+        phoneNumberIndex.index(person(3L, null));
+    }
+
+    @Test
+    void find() {
+        assertThat(phoneNumberIndex.find(821011112222L)).isEqualTo(1L);
+        assertThat(phoneNumberIndex.find(8221234567L)).isEqualTo(2L);
+        assertThat(phoneNumberIndex.find(821099998888L)).isNull();
+    }
+
+    @Test
+    void indexIfPhoneNumberChanged() {
+        phoneNumberIndex.index(person(1L, "010-3333-4444"));
+
+        assertThat(phoneNumberIndex.find(821011112222L)).isNull();
+        assertThat(phoneNumberIndex.find(821033334444L)).isEqualTo(1L);
+    }
+
+    @Test
+    void indexIfDeleted() {
+        Person person = person(1L, "010-1111-2222");
+        person.setDeleted(true);
+
+        phoneNumberIndex.index(person);
+
+        assertThat(phoneNumberIndex.find(821011112222L)).isNull();
+    }
+
+    @Test
+    void remove() {
+        phoneNumberIndex.index(person(4L, "010-1111-2222"));    // 1번이 삭제된 후 같은 번호로 등록된 4번이 index에 먼저 반영됨
+        phoneNumberIndex.remove(1L);
+
+        assertThat(phoneNumberIndex.find(821011112222L)).isEqualTo(4L);
+    }
+
+    private static Person person(Long id, String phoneNumber) {
+        Person person = new Person("name" + id);
+        person.setId(id);
+        person.setPhoneNumber(phoneNumber);
+
+        return person;
+    }
+
+}